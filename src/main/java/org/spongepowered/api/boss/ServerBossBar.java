@@ -37,6 +37,9 @@
 
 /**
  * Represents a boss bar controlled by a {@link Server}.
+ *
+ * <p>Changes made to the properties of a boss bar during a tick may be sent
+ * to its players as a single update.</p>
  */
 public interface ServerBossBar extends BossBar {
 
@@ -202,6 +202,9 @@ default void playSound(SoundType sound, Vector3d position, double volume, double
     /**
      * Sends a {@link Title} to this player.
      *
+     * <p>To send the same title to many viewers, a {@link ViewerGroup} should
+     * be used, which only encodes the title once.</p>
+     *
      * @param title The {@link Title} to send to the player
      */
     void sendTitle(Title title);
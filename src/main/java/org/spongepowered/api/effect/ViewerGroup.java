@@ -0,0 +1,182 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.effect;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.boss.ServerBossBar;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.chat.ChatTypes;
+import org.spongepowered.api.text.title.Title;
+import org.spongepowered.api.util.ResettableBuilder;
+
+import java.util.Collection;
+
+/**
+ * Represents a group of {@link Viewer}s which are sent the same titles,
+ * action bars and boss bars.
+ *
+ * <p>Unlike sending to each viewer in turn, a payload sent to a group is
+ * only encoded once and then delivered to every viewer of the group.</p>
+ *
+ * <p>If the group {@link #isCoalescing() coalesces} updates, titles and
+ * action bars sent to it are held until the end of the current tick, and
+ * only the final state is delivered. Timers which send a title to the same
+ * viewers several times per tick therefore only cause one update.</p>
+ */
+public interface ViewerGroup {
+
+    /**
+     * Creates a new {@link Builder} to create {@link ViewerGroup}s.
+     *
+     * @return The new builder
+     */
+    static Builder builder() {
+        return Sponge.getRegistry().createBuilder(Builder.class);
+    }
+
+    /**
+     * Gets the {@link Viewer}s of this group.
+     *
+     * @return The viewers
+     */
+    Collection<Viewer> getViewers();
+
+    /**
+     * Gets whether updates sent to this group are held until the end of the
+     * current tick and merged.
+     *
+     * @return Whether updates are coalesced
+     */
+    boolean isCoalescing();
+
+    /**
+     * Sends a {@link Title} to all viewers of this group.
+     *
+     * <p>When coalescing, the components of a title replace those of the
+     * titles sent earlier during the same tick, and components which are
+     * absent keep their earlier value. Clearing or resetting drops the
+     * titles sent earlier during the tick.</p>
+     *
+     * @param title The title to send
+     * @see Viewer#sendTitle(Title)
+     */
+    void sendTitle(Title title);
+
+    /**
+     * Removes the currently displayed title from all viewers of this group.
+     *
+     * @see Viewer#clearTitle()
+     */
+    default void clearTitle() {
+        sendTitle(Title.CLEAR);
+    }
+
+    /**
+     * Removes the currently displayed title from all viewers of this group
+     * and resets all settings back to default values.
+     *
+     * @see Viewer#resetTitle()
+     */
+    default void resetTitle() {
+        sendTitle(Title.RESET);
+    }
+
+    /**
+     * Sends a message to the action bar of all viewers of this group.
+     *
+     * <p>When coalescing, only the last action bar sent during a tick is
+     * delivered.</p>
+     *
+     * @param message The message to send
+     * @see ChatTypes#ACTION_BAR
+     */
+    void sendActionBar(Text message);
+
+    /**
+     * Shows the given {@link ServerBossBar} to all viewers of this group
+     * which are able to see boss bars.
+     *
+     * <p>Changes made to the boss bar are then sent once to all viewers
+     * which see it.</p>
+     *
+     * @param bossBar The boss bar to show
+     */
+    void showBossBar(ServerBossBar bossBar);
+
+    /**
+     * Hides the given {@link ServerBossBar} from all viewers of this group.
+     *
+     * @param bossBar The boss bar to hide
+     */
+    void hideBossBar(ServerBossBar bossBar);
+
+    /**
+     * Delivers the updates which are held by this group immediately, instead
+     * of at the end of the current tick.
+     *
+     * <p>This does nothing if this group does not coalesce updates.</p>
+     */
+    void flush();
+
+    /**
+     * Represents a builder to create {@link ViewerGroup}s.
+     */
+    interface Builder extends ResettableBuilder<ViewerGroup, Builder> {
+
+        /**
+         * Adds a {@link Viewer} to the group.
+         *
+         * @param viewer The viewer to add
+         * @return This builder
+         */
+        Builder viewer(Viewer viewer);
+
+        /**
+         * Adds the given {@link Viewer}s to the group.
+         *
+         * @param viewers The viewers to add
+         * @return This builder
+         */
+        Builder viewers(Iterable<? extends Viewer> viewers);
+
+        /**
+         * Sets whether updates sent to the group are held until the end of the
+         * current tick and merged. Defaults to {@code true}.
+         *
+         * @param coalesce Whether updates are coalesced
+         * @return This builder
+         */
+        Builder coalesce(boolean coalesce);
+
+        /**
+         * Builds a {@link ViewerGroup} from the state of this builder.
+         *
+         * @return The viewer group
+         */
+        ViewerGroup build();
+
+    }
+
+}
@@ -60,6 +60,20 @@ static Builder builder() {
      */
     Iterable<Text> getContents();
 
+    /**
+     * Gets the lazy source of the contents of this pagination list, if it
+     * was built with {@link Builder#contents(PaginationSource)}.
+     *
+     * <p>Iterating over {@link #getContents()} of a list backed by a source
+     * fetches every entry of the source, waiting for the fetches to
+     * complete.</p>
+     *
+     * @return The source of the contents, if present
+     */
+    default Optional<PaginationSource> getContentSource() {
+        return Optional.empty();
+    }
+
     /**
      * Gets the title text to be used in the title bar of this pagination.
      *
@@ -178,6 +192,18 @@ interface Builder extends ResettableBuilder<PaginationList, Builder> {
          */
         Builder contents(Text... contents);
 
+        /**
+         * Sets the contents of this output to be fetched lazily from the given
+         * source. Only the entries of the page that is sent are fetched and
+         * measured, which supports navigating to any page without creating
+         * the entries of the previous pages.
+         *
+         * @param source The source of the contents to output
+         * @return This builder
+         * @see PaginationSource
+         */
+        Builder contents(PaginationSource source);
+
         /**
          * Sets the title text to be used in the title bar of this pagination.
          *
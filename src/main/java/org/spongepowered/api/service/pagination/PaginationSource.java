@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.pagination;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.text.Text;
+
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+/**
+ * A lazy source of the contents of a {@link PaginationList}, from which only
+ * the entries of the requested page are fetched. This allows large or
+ * database backed contents to be paginated without creating every entry.
+ *
+ * <p>The entries are fetched in windows of consecutive entries. A page of a
+ * list backed by a source always starts at a fixed entry offset, which is
+ * the page index multiplied by the number of content lines per page. Only
+ * the entries of the requested window are measured, so entries that wrap
+ * over several lines may make a page longer than
+ * {@link PaginationList#getLinesPerPage()}.</p>
+ *
+ * @see PaginationList.Builder#contents(PaginationSource)
+ */
+@FunctionalInterface
+public interface PaginationSource {
+
+    /**
+     * Creates a source backed by the given list of entries.
+     *
+     * @param contents The entries
+     * @return The new source
+     */
+    static PaginationSource of(List<? extends Text> contents) {
+        final List<Text> entries = ImmutableList.copyOf(checkNotNull(contents, "contents"));
+        return of(entries.size(), entries::get);
+    }
+
+    /**
+     * Creates a source of the given size which creates each entry on demand
+     * with the given function, which receives the index of the entry.
+     *
+     * @param size The number of entries
+     * @param entryFunction The function that creates the entries
+     * @return The new source
+     */
+    static PaginationSource of(int size, IntFunction<Text> entryFunction) {
+        checkArgument(size >= 0, "size cannot be negative: %s", size);
+        checkNotNull(entryFunction, "entryFunction");
+        return new PaginationSource() {
+
+            @Override
+            public CompletableFuture<List<Text>> getContents(int offset, int limit) {
+                checkArgument(offset >= 0, "offset cannot be negative: %s", offset);
+                checkArgument(limit > 0, "limit must be greater than 0: %s", limit);
+                final ImmutableList.Builder<Text> window = ImmutableList.builder();
+                final int end = (int) Math.min(size, (long) offset + limit);
+                for (int i = offset; i < end; i++) {
+                    window.add(entryFunction.apply(i));
+                }
+                return CompletableFuture.completedFuture(window.build());
+            }
+
+            @Override
+            public OptionalInt getSize() {
+                return OptionalInt.of(size);
+            }
+
+        };
+    }
+
+    /**
+     * Fetches a window of consecutive entries, starting at the given offset.
+     * Fewer entries than the limit are only returned if the end of the
+     * contents is reached.
+     *
+     * <p>The returned future may be completed asynchronously, for instance
+     * when the entries are loaded from a database. The page is sent once the
+     * future completes.</p>
+     *
+     * @param offset The index of the first entry, 0 or greater
+     * @param limit The maximum number of entries to fetch, greater than 0
+     * @return A future of the fetched entries
+     */
+    CompletableFuture<List<Text>> getContents(int offset, int limit);
+
+    /**
+     * Gets the total number of entries of this source, if known.
+     *
+     * <p>If the size is unknown, the total number of pages cannot be shown
+     * and the end of the contents is only detected once a window with fewer
+     * entries than requested is fetched.</p>
+     *
+     * @return The number of entries, if known
+     */
+    default OptionalInt getSize() {
+        return OptionalInt.empty();
+    }
+
+}
@@ -44,9 +44,11 @@
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
 import org.spongepowered.api.text.selector.Selector;
+import org.spongepowered.api.text.serializer.TextSerializer;
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.api.text.translation.Translatable;
 import org.spongepowered.api.text.translation.Translation;
+import org.spongepowered.api.text.translation.TranslationReloads;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -56,6 +58,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -98,9 +101,22 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     public static final LiteralText NEW_LINE = new LiteralText(NEW_LINE_STRING);
 
+    /**
+     * The maximum total length of the serialized forms cached on a text.
+     */
+    private static final int MAX_CACHED_LENGTH = 8192;
+
+    /**
+     * The maximum number of serialized forms cached on a text, enough for
+     * one form per serializer and a few locales.
+     */
+    private static final int MAX_CACHED_FORMS = 8;
+
     /**
      * A {@link Comparator} for texts that compares the plain text of two text
      * instances.
+     *
+     * <p>The plain text of most texts is cached, see {@link #toPlain()}.</p>
      */
     public static Comparator<Text> PLAIN_COMPARATOR = (text1, text2) -> text1.toPlain().compareTo(text2.toPlain());
 
@@ -116,6 +132,21 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
      */
     final Iterable<Text> childrenIterable;
 
+    // Which serialized forms of this text can be cached, they can't if they
+    // may change over time
+    private static final int CACHE_UNKNOWN = 0;
+    private static final int CACHE_NONE = 1;
+    private static final int CACHE_LOCALIZED = 2;
+    private static final int CACHE_ALL = 3;
+
+    // A text only carries these two fields for its caches. The cacheability
+    // is computed lazily without synchronization, like the hash of a String,
+    // since it always computes to the same value. The cached forms are
+    // published as an array which is filled before it is assigned and never
+    // modified afterwards.
+    private int cacheability = CACHE_UNKNOWN;
+    @Nullable private volatile SerializedForm[] serialized;
+
     Text() {
         this.format = TextFormat.NONE; // TODO
         this.children = ImmutableList.of();
@@ -146,6 +177,47 @@ public abstract class Text implements TextRepresentable, DataSerializable, Compa
         this.childrenIterable = () -> new TextIterator(this);
     }
 
+    private int getCacheability() {
+        int cacheability = this.cacheability;
+        if (cacheability == CACHE_UNKNOWN) {
+            cacheability = computeCacheability();
+            this.cacheability = cacheability;
+        }
+        return cacheability;
+    }
+
+    private int computeCacheability() {
+        // Scores change, translations can only be cached per locale
+        if (this instanceof ScoreText) {
+            return CACHE_NONE;
+        }
+        int cacheability = CACHE_ALL;
+        if (this instanceof TranslatableText) {
+            cacheability = CACHE_LOCALIZED;
+            for (Object argument : ((TranslatableText) this).getArguments()) {
+                if (argument instanceof Text) {
+                    cacheability = Math.min(cacheability, ((Text) argument).getCacheability());
+                } else if (!isImmutableArgument(argument)) {
+                    return CACHE_NONE;
+                }
+            }
+        }
+        final Optional<HoverAction<?>> hoverAction = this.hoverAction;
+        if (hoverAction.isPresent() && hoverAction.get() instanceof HoverAction.ShowText) {
+            cacheability = Math.min(cacheability, ((HoverAction.ShowText) hoverAction.get()).getResult().getCacheability());
+        }
+        for (Text child : this.children) {
+            cacheability = Math.min(cacheability, child.getCacheability());
+        }
+        return cacheability;
+    }
+
+    private static boolean isImmutableArgument(@Nullable Object argument) {
+        return argument == null || argument instanceof String || argument instanceof Integer || argument instanceof Long
+                || argument instanceof Double || argument instanceof Float || argument instanceof Short || argument instanceof Byte
+                || argument instanceof Boolean || argument instanceof Character;
+    }
+
     /**
      * Returns the format of this {@link Text}.
      *
@@ -250,10 +322,132 @@ public final boolean isEmpty() {
      * Returns a plain text representation of this {@link Text} without any
      * formatting.
      *
+     * <p>The plain text is cached on this text after the first call, unless
+     * it is very long or may change over time, which is the case if this
+     * text contains {@link ScoreText}s or {@link TranslatableText}s.</p>
+     *
      * @return This text converted to plain text
      */
     public final String toPlain() {
-        return TextSerializers.PLAIN.serialize(this);
+        return toSerialized(TextSerializers.PLAIN);
+    }
+
+    /**
+     * Returns the string representation of this {@link Text} produced by the
+     * given {@link TextSerializer}.
+     *
+     * <p>The result is cached on this text for each serializer, under the
+     * same conditions as {@link #toPlain()}. This is intended for
+     * texts which are serialized repeatedly, for instance with
+     * {@link TextSerializers#JSON} when they are sent to many players.</p>
+     *
+     * @param serializer The serializer to use
+     * @return The serialized text
+     */
+    public final String toSerialized(TextSerializer serializer) {
+        checkNotNull(serializer, "serializer");
+        final String cached = getSerializedForm(serializer, null, 0);
+        if (cached != null) {
+            return cached;
+        }
+        final String value = serializer.serialize(this);
+        if (getCacheability() == CACHE_ALL) {
+            addSerializedForm(new SerializedForm(serializer, null, 0, value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the string representation of this {@link Text} produced by the
+     * given {@link TextSerializer}, with the translations that are resolved
+     * on the server translated into the given {@link Locale}.
+     *
+     * <p>The result is cached on this text for each serializer and locale,
+     * unless it is very long or this text contains {@link ScoreText}s.
+     * Unlike {@link #toSerialized(TextSerializer)}, this form is also cached
+     * for {@link TranslatableText}s, until translations are reloaded as
+     * announced through {@link TranslationReloads#notifyReloaded()}.</p>
+     *
+     * @param serializer The serializer to use
+     * @param locale The locale to translate into
+     * @return The serialized text
+     * @see TextSerializer#serialize(Text, Locale)
+     */
+    public final String toSerialized(TextSerializer serializer, Locale locale) {
+        checkNotNull(serializer, "serializer");
+        checkNotNull(locale, "locale");
+        final long generation = TranslationReloads.getGeneration();
+        final String cached = getSerializedForm(serializer, locale, generation);
+        if (cached != null) {
+            return cached;
+        }
+        final String value = serializer.serialize(this, locale);
+        if (getCacheability() >= CACHE_LOCALIZED) {
+            addSerializedForm(new SerializedForm(serializer, locale, generation, value));
+        }
+        return value;
+    }
+
+    @Nullable
+    private String getSerializedForm(TextSerializer serializer, @Nullable Locale locale, long generation) {
+        final SerializedForm[] serialized = this.serialized;
+        if (serialized != null) {
+            for (SerializedForm form : serialized) {
+                if (form.serializer == serializer && Objects.equal(form.locale, locale) && form.generation == generation) {
+                    return form.value;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void addSerializedForm(SerializedForm form) {
+        int length = form.value.length();
+        if (length > MAX_CACHED_LENGTH) {
+            return;
+        }
+        // Keep the most recent forms that still fit, translated forms of an
+        // older generation are dropped
+        final SerializedForm[] serialized = this.serialized;
+        final List<SerializedForm> forms = new ArrayList<>(MAX_CACHED_FORMS);
+        forms.add(form);
+        if (serialized != null) {
+            for (SerializedForm old : serialized) {
+                if (forms.size() == MAX_CACHED_FORMS) {
+                    break;
+                }
+                if (old.locale != null && old.generation != form.generation) {
+                    continue;
+                }
+                length += old.value.length();
+                if (length > MAX_CACHED_LENGTH) {
+                    break;
+                }
+                forms.add(old);
+            }
+        }
+        this.serialized = forms.toArray(new SerializedForm[forms.size()]);
+    }
+
+    /**
+     * Returns whether this {@link Text}, or any text it contains, is a
+     * {@link TranslatableText}, in which case its representation may depend
+     * on the {@link Locale} of the receiver.
+     *
+     * @return True if this text contains translatable text
+     */
+    public final boolean containsTranslations() {
+        for (Text text : this.childrenIterable) {
+            if (text instanceof TranslatableText) {
+                return true;
+            }
+            final Optional<HoverAction<?>> hoverAction = text.hoverAction;
+            if (hoverAction.isPresent() && hoverAction.get() instanceof HoverAction.ShowText
+                    && ((HoverAction.ShowText) hoverAction.get()).getResult().containsTranslations()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -464,6 +658,26 @@ public final Text toText() {
         return this;
     }
 
+    /**
+     * A serialized form of a text and the serializer, locale and translation
+     * generation that produced it.
+     */
+    private static final class SerializedForm {
+
+        final TextSerializer serializer;
+        @Nullable final Locale locale;
+        final long generation;
+        final String value;
+
+        SerializedForm(TextSerializer serializer, @Nullable Locale locale, long generation, String value) {
+            this.serializer = serializer;
+            this.locale = locale;
+            this.generation = generation;
+            this.value = value;
+        }
+
+    }
+
     /**
      * Represents a builder class to create immutable {@link Text} instances.
      *
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.text;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -32,12 +34,15 @@
 /**
  * Represents a recursive {@link Iterator} for {@link Text} including the text
  * itself as well as all children texts.
+ *
+ * <p>The texts are visited depth first, in the order in which they are
+ * displayed. The traversal uses a single stack of child iterators instead
+ * of one nested iterator per text.</p>
  */
 final class TextIterator implements Iterator<Text> {
 
-    private final Text text;
-    @Nullable private Iterator<Text> children;
-    @Nullable private Iterator<Text> currentChildIterator;
+    private final Deque<Iterator<Text>> stack = new ArrayDeque<>();
+    @Nullable private Text next;
 
     /**
      * Constructs a new {@link TextIterator} for the specified {@link Text}.
@@ -45,12 +50,23 @@ final class TextIterator implements Iterator<Text> {
      * @param text The root text for the iterator
      */
     TextIterator(Text text) {
-        this.text = text;
+        this.next = text;
     }
 
     @Override
     public boolean hasNext() {
-        return this.children == null || (this.currentChildIterator != null && this.currentChildIterator.hasNext()) || this.children.hasNext();
+        if (this.next != null) {
+            return true;
+        }
+        while (!this.stack.isEmpty()) {
+            final Iterator<Text> children = this.stack.peek();
+            if (children.hasNext()) {
+                this.next = children.next();
+                return true;
+            }
+            this.stack.pop();
+        }
+        return false;
     }
 
     @Override
@@ -58,14 +74,12 @@ public Text next() {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        if (this.children == null) {
-            this.children = this.text.children.iterator();
-            return this.text;
-        } else if (this.currentChildIterator == null || !this.currentChildIterator.hasNext()) {
-            this.currentChildIterator = this.children.next().childrenIterable.iterator();
+        final Text text = this.next;
+        this.next = null;
+        if (!text.children.isEmpty()) {
+            this.stack.push(text.children.iterator());
         }
-
-        return this.currentChildIterator.next();
+        return text;
     }
 
 }
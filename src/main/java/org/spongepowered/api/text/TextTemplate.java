@@ -72,11 +72,21 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
      */
     public static final TextTemplate EMPTY = new TextTemplate(DEFAULT_OPEN_ARG, DEFAULT_CLOSE_ARG, new Object[]{});
 
+    // The kinds of the segments of the compiled plan
+    private static final byte SEGMENT_TEXT = 0;
+    private static final byte SEGMENT_ELEMENT = 1;
+    private static final byte SEGMENT_OBJECT = 2;
+    private static final byte SEGMENT_ARG = 3;
+
     final ImmutableList<Object> elements;
     final ImmutableMap<String, Arg> arguments;
+    final ImmutableList<String> argumentNames;
     final Text text;
     final String openArg;
     final String closeArg;
+    private final byte[] segmentKinds;
+    private final Object[] segments;
+    private final int[] argumentIndices;
 
     TextTemplate(String openArg, String closeArg, Object[] elements) {
         this.openArg = openArg;
@@ -111,6 +121,42 @@ public final class TextTemplate implements TextRepresentable, Iterable<Object> {
             builder = apply(element, builder);
         }
         this.text = Optional.ofNullable(builder).orElse(Text.builder()).build();
+
+        // compile the plan, static text segments are only built once and
+        // arguments are resolved to their positional index
+        final int size = this.elements.size();
+        this.segmentKinds = new byte[size];
+        this.segments = new Object[size];
+        this.argumentIndices = new int[size];
+        final List<String> argumentNames = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final Object element = this.elements.get(i);
+            if (element instanceof Arg) {
+                final String name = ((Arg) element).name;
+                int index = argumentNames.indexOf(name);
+                if (index == -1) {
+                    index = argumentNames.size();
+                    argumentNames.add(name);
+                }
+                this.segmentKinds[i] = SEGMENT_ARG;
+                this.argumentIndices[i] = index;
+                this.segments[i] = element;
+            } else if (element instanceof Text) {
+                this.segmentKinds[i] = SEGMENT_TEXT;
+                this.segments[i] = element;
+            } else if (element instanceof String) {
+                this.segmentKinds[i] = SEGMENT_TEXT;
+                this.segments[i] = Text.of((String) element);
+            } else if (element instanceof TextElement) {
+                this.segmentKinds[i] = SEGMENT_ELEMENT;
+                this.segments[i] = element;
+            } else {
+                // other objects may change their string representation
+                this.segmentKinds[i] = SEGMENT_OBJECT;
+                this.segments[i] = element;
+            }
+        }
+        this.argumentNames = ImmutableList.copyOf(argumentNames);
     }
 
     /**
@@ -131,6 +177,17 @@ public Map<String, Arg> getArguments() {
         return this.arguments;
     }
 
+    /**
+     * Returns the names of the arguments contained within the TextTemplate,
+     * in the order in which they first appear. This is the order of the
+     * parameters expected by {@link #apply(Object...)}.
+     *
+     * @return The names of the arguments within this TextTemplate
+     */
+    public List<String> getArgumentNames() {
+        return this.argumentNames;
+    }
+
     /**
      * Returns the string used for containing Args within the template.
      *
@@ -184,35 +241,78 @@ public Text.Builder apply() {
      * @throws TextTemplateArgumentException if required parameters are missing
      */
     public Text.Builder apply(Map<String, ?> params) {
-        return apply(null, params);
+        checkNotNull(params, "params");
+        return applyPlan(params, null);
     }
 
-    private Text.Builder apply(@Nullable Text.Builder result, Map<String, ?> params) {
+    /**
+     * Applies the specified parameters to this TextTemplate and returns the
+     * result in a {@link Text.Builder}. The parameters are matched to the
+     * arguments by their position in {@link #getArgumentNames()}, which
+     * avoids the lookups of {@link #apply(Map)}. Null values and missing
+     * trailing values are treated as absent parameters.
+     *
+     * @param params Parameters to apply, in argument order
+     * @return Text builder containing result
+     * @throws TextTemplateArgumentException if required parameters are missing
+     */
+    public Text.Builder apply(Object... params) {
         checkNotNull(params, "params");
-        for (Object element : this.elements) {
-            result = apply(element, result, params);
-        }
-        return Optional.ofNullable(result).orElse(Text.builder());
+        checkArgument(params.length <= this.argumentNames.size(), "Expected at most %s parameters but got %s",
+                this.argumentNames.size(), params.length);
+        return applyPlan(null, params);
     }
 
-    @Nullable
-    private Text.Builder apply(Object element, @Nullable Text.Builder builder, Map<String, ?> params) {
+    private Text.Builder applyPlan(@Nullable Map<String, ?> namedParams, @Nullable Object[] positionalParams) {
         // Note: The builder is initialized as null to avoid unnecessary Text nesting
-        if (element instanceof Arg) {
-            Arg arg = (Arg) element;
-            Object param = params.get(arg.name);
-            if (param == null) {
-                arg.checkOptional();
-                if (arg.defaultValue != null) {
-                    builder = applyArg(arg.defaultValue, arg, builder);
-                }
-            } else {
-                builder = applyArg(param, arg, builder);
+        Text.Builder builder = null;
+        for (int i = 0; i < this.segments.length; i++) {
+            final Object segment = this.segments[i];
+            switch (this.segmentKinds[i]) {
+                case SEGMENT_TEXT:
+                    if (builder == null) {
+                        builder = ((Text) segment).toBuilder();
+                    } else {
+                        builder.append((Text) segment);
+                    }
+                    break;
+                case SEGMENT_ARG:
+                    final Arg arg = (Arg) segment;
+                    final Object param;
+                    if (namedParams != null) {
+                        param = namedParams.get(arg.name);
+                    } else {
+                        final int index = this.argumentIndices[i];
+                        param = index < positionalParams.length ? positionalParams[index] : null;
+                    }
+                    if (param == null) {
+                        arg.checkOptional();
+                        if (arg.defaultValue != null) {
+                            builder = applyArg(arg.defaultValue, arg, builder);
+                        }
+                    } else {
+                        builder = applyArg(param, arg, builder);
+                    }
+                    break;
+                case SEGMENT_ELEMENT:
+                    if (builder == null) {
+                        builder = Text.builder();
+                    }
+                    ((TextElement) segment).applyTo(builder);
+                    break;
+                case SEGMENT_OBJECT:
+                    final String str = segment.toString();
+                    if (builder == null) {
+                        builder = Text.builder(str);
+                    } else {
+                        builder.append(Text.of(str));
+                    }
+                    break;
+                default:
+                    throw new AssertionError(this.segmentKinds[i]);
             }
-        } else {
-            builder = apply(element, builder);
         }
-        return builder;
+        return builder == null ? Text.builder() : builder;
     }
 
     private Text.Builder apply(Object element, @Nullable Text.Builder builder) {
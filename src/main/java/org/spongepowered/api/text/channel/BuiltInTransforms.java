@@ -0,0 +1,72 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.impl.DelegateMessageChannel;
+import org.spongepowered.api.text.channel.impl.DelegateMutableMessageChannel;
+import org.spongepowered.api.text.channel.type.CombinedMessageChannel;
+import org.spongepowered.api.text.chat.ChatType;
+
+import java.util.Set;
+
+/**
+ * Looks up whether a channel type uses one of the built-in implementations
+ * of {@link MessageChannel#transformMessage(Object, MessageReceiver, Text,
+ * ChatType)}, which either return the message unchanged or leave it to
+ * other channels.
+ */
+final class BuiltInTransforms {
+
+    private static final Set<Class<?>> DECLARING_CLASSES = ImmutableSet.of(MessageChannel.class, DelegateMessageChannel.class,
+            DelegateMutableMessageChannel.class, CombinedMessageChannel.class);
+
+    private static final ClassValue<Boolean> BUILT_IN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return DECLARING_CLASSES.contains(type.getMethod("transformMessage", Object.class, MessageReceiver.class,
+                        Text.class, ChatType.class).getDeclaringClass());
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Gets whether the given channel type uses a built-in transformation.
+     *
+     * @param type The channel type
+     * @return True if the transformation is built-in
+     */
+    static boolean isBuiltIn(Class<? extends MessageChannel> type) {
+        return BUILT_IN.get(type);
+    }
+
+    private BuiltInTransforms() {
+    }
+
+}
@@ -27,8 +27,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterators;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.impl.DelegateMessageChannel;
 import org.spongepowered.api.text.channel.impl.DelegateMutableMessageChannel;
 import org.spongepowered.api.text.channel.type.CombinedMessageChannel;
 import org.spongepowered.api.text.channel.type.FixedMessageChannel;
@@ -39,6 +41,7 @@
 import org.spongepowered.api.world.World;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -191,6 +194,30 @@ default void send(@Nullable Object sender, Text original) {
     default void send(@Nullable Object sender, Text original, ChatType type) {
         checkNotNull(original, "original text");
         checkNotNull(type, "type");
+        if (this.isRecipientIndependent()) {
+            // The members may be a live view, so they are only iterated once
+            final Iterator<MessageReceiver> members = this.getMembers().iterator();
+            if (!members.hasNext()) {
+                return;
+            }
+            final MessageReceiver first = members.next();
+            // Transform once and deliver the same instance to every member
+            final Optional<Text> transformed = this.transformMessage(sender, first, original, type);
+            if (!transformed.isPresent()) {
+                return;
+            }
+            final Text text = transformed.get();
+            final Iterator<MessageReceiver> receivers = Iterators.concat(Iterators.singletonIterator(first), members);
+            while (receivers.hasNext()) {
+                final MessageReceiver member = receivers.next();
+                if (member instanceof ChatTypeMessageReceiver) {
+                    ((ChatTypeMessageReceiver) member).sendMessage(type, text);
+                } else {
+                    member.sendMessage(text);
+                }
+            }
+            return;
+        }
         for (MessageReceiver member : this.getMembers()) {
             if (member instanceof ChatTypeMessageReceiver) {
                 this.transformMessage(sender, member, original, type).ifPresent(text -> ((ChatTypeMessageReceiver) member).sendMessage(type, text));
@@ -213,6 +240,33 @@ default Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.of(original);
     }
 
+    /**
+     * Gets whether the message transformation of this channel is independent
+     * of the recipient, that is whether
+     * {@link #transformMessage(Object, MessageReceiver, Text, ChatType)}
+     * returns the same message for every recipient.
+     *
+     * <p>If true, a message sent to this channel is only transformed once
+     * and the same {@link Text} instance is delivered to every member, which
+     * allows implementations to serialize it once for all the members
+     * instead of once per member.</p>
+     *
+     * <p>By default, a channel is independent of the recipient if it does
+     * not override {@link #transformMessage(Object, MessageReceiver, Text,
+     * ChatType)}, or only inherits it from {@link DelegateMessageChannel},
+     * {@link DelegateMutableMessageChannel} or {@link CombinedMessageChannel},
+     * which are independent if the channels they use are. A subclass of any
+     * built-in channel which overrides the transformation therefore
+     * transforms messages per recipient. Channels whose transformation does
+     * not depend on the recipient may override this method to return
+     * true.</p>
+     *
+     * @return True if the transformation is independent of the recipient
+     */
+    default boolean isRecipientIndependent() {
+        return BuiltInTransforms.isBuiltIn(getClass());
+    }
+
     /**
      * Gets a collection of all members in this channel.
      *
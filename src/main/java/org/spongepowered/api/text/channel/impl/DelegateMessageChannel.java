@@ -61,6 +61,11 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return this.delegate.transformMessage(sender, recipient, original, type);
     }
 
+    @Override
+    public boolean isRecipientIndependent() {
+        return MessageChannel.super.isRecipientIndependent() && this.delegate.isRecipientIndependent();
+    }
+
     @Override
     public Collection<MessageReceiver> getMembers() {
         return this.delegate.getMembers();
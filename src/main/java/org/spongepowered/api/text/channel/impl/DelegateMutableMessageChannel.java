@@ -63,4 +63,9 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return this.delegate.transformMessage(sender, recipient, original, type);
     }
 
+    @Override
+    public boolean isRecipientIndependent() {
+        return super.isRecipientIndependent() && this.delegate.isRecipientIndependent();
+    }
+
 }
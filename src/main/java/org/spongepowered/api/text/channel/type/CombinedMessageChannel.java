@@ -78,6 +78,11 @@ public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver
         return Optional.ofNullable(text);
     }
 
+    @Override
+    public boolean isRecipientIndependent() {
+        return MessageChannel.super.isRecipientIndependent() && this.channels.stream().allMatch(MessageChannel::isRecipientIndependent);
+    }
+
     @Override
     public Collection<MessageReceiver> getMembers() {
         return this.channels.stream()
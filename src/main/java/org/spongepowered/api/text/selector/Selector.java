@@ -151,6 +151,21 @@ static List<String> complete(String selector) {
      */
     boolean isInverted(ArgumentType.Invertible<?> type);
 
+    /**
+     * Compiles this {@link Selector} into a {@link SelectorQuery}, which can
+     * be resolved repeatedly without interpreting the arguments of this
+     * selector again and caches its results for the current tick.
+     *
+     * <p>Callers which resolve the same selector often, such as command
+     * blocks, should keep the compiled query instead of calling the
+     * {@code resolve} methods of this selector.</p>
+     *
+     * @return The compiled query
+     */
+    default SelectorQuery compile() {
+        return getFactory().compile(this);
+    }
+
     /**
      * Resolves this {@link Selector} to a list of entities around the origin.
      *
@@ -142,6 +142,14 @@ public interface SelectorFactory {
      */
     Argument<?> parseArgument(String argument) throws IllegalArgumentException;
 
+    /**
+     * Compiles the given {@link Selector} into a {@link SelectorQuery}.
+     *
+     * @param selector The selector to compile
+     * @return The compiled query
+     */
+    SelectorQuery compile(Selector selector);
+
     /**
      * Fetch completions for a selector command argument.
      * 
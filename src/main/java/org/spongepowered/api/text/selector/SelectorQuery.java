@@ -0,0 +1,134 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.selector;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * Represents a {@link Selector} compiled into a query plan, which can be
+ * resolved repeatedly without interpreting the arguments of the selector
+ * again.
+ *
+ * <p>When compiling, the position, radius and volume arguments are turned
+ * into a lookup of the entities within the {@link #getSearchBounds(Vector3d)
+ * search bounds}, the entity type and team arguments are checked before any
+ * other argument and sorting with a count only keeps the requested number of
+ * targets instead of sorting all of them.</p>
+ *
+ * <p>The results of a query are cached until the end of the current tick,
+ * so identical selectors which are resolved from the same origin many times
+ * during a tick, such as those of command blocks, only search the world
+ * once.</p>
+ *
+ * @see Selector#compile()
+ */
+public interface SelectorQuery {
+
+    /**
+     * Gets the {@link Selector} this query was compiled from.
+     *
+     * @return The selector
+     */
+    Selector getSelector();
+
+    /**
+     * Gets the volume which will be searched for targets if this query is
+     * resolved around the given origin.
+     *
+     * <p>If the selector has no radius or volume arguments, the whole extent
+     * is searched and {@link Optional#empty()} is returned.</p>
+     *
+     * @param origin The origin of the query
+     * @return The searched volume, if bounded
+     */
+    Optional<AABB> getSearchBounds(Vector3d origin);
+
+    /**
+     * Gets the maximum number of targets this query will return.
+     *
+     * @return The maximum number of targets, if limited
+     */
+    OptionalInt getLimit();
+
+    /**
+     * Resolves this query to a set of entities around the origin.
+     *
+     * <p>The returned set is unmodifiable and may be shared with other
+     * callers resolving this query from the same origin during the current
+     * tick.</p>
+     *
+     * @param origin The source that should be considered the origin of this
+     *        query
+     * @return The matched entities
+     * @see Selector#resolve(CommandSource)
+     */
+    Set<Entity> resolve(CommandSource origin);
+
+    /**
+     * Resolves this query to a set of entities around (0|0|0) in the given
+     * {@link Extent Extent(s)}.
+     *
+     * <p>The returned set is unmodifiable and may be shared with other
+     * callers resolving this query in the same extents during the current
+     * tick.</p>
+     *
+     * @param extent The extents to search for targets
+     * @return The matched entities
+     * @see Selector#resolve(Collection)
+     */
+    Set<Entity> resolve(Collection<? extends Extent> extent);
+
+    /**
+     * Resolves this query to a set of entities around the given
+     * {@link Location}.
+     *
+     * <p>The returned set is unmodifiable and may be shared with other
+     * callers resolving this query around the same location during the
+     * current tick.</p>
+     *
+     * @param location The location to resolve the query around
+     * @return The matched entities
+     * @see Selector#resolve(Location)
+     */
+    Set<Entity> resolve(Location<World> location);
+
+    /**
+     * Discards the cached results of this query, so the next resolution
+     * searches for targets again even if it happens during the same tick.
+     */
+    void invalidate();
+
+}
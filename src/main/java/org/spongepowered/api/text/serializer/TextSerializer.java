@@ -29,6 +29,8 @@
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.util.annotation.CatalogedBy;
 
+import java.util.Locale;
+
 /**
  * Represents a serializer for {@link Text} instances that converts an input
  * string into a formatted {@link Text} instance, or a {@link Text} instance
@@ -50,6 +52,22 @@ public interface TextSerializer extends CatalogType {
      */
     String serialize(Text text);
 
+    /**
+     * Returns a string representation of the provided {@link Text}, with the
+     * translations that are resolved on the server translated into the given
+     * {@link Locale}.
+     *
+     * <p>Serializers which do not resolve translations themselves return the
+     * same result as {@link #serialize(Text)}.</p>
+     *
+     * @param text The text to serialize
+     * @param locale The locale to translate into
+     * @return The string representation of this text
+     */
+    default String serialize(Text text, Locale locale) {
+        return serialize(text);
+    }
+
     /**
      * Returns a string representation of only the provided {@link Text}
      * (without any children) in a format that will be accepted by this
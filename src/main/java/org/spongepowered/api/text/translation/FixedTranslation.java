@@ -26,12 +26,15 @@
 
 import java.util.Locale;
 
+import javax.annotation.Nullable;
+
 /**
  * A translation providing a fixed value.
  */
 public class FixedTranslation implements Translation {
 
     private final String value;
+    @Nullable private volatile TranslationFormat format;
 
     /**
      * Create a new translation with an id and value that are the same.
@@ -54,6 +57,11 @@ public String get(Locale locale) {
 
     @Override
     public String get(Locale locale, Object... args) {
-        return String.format(locale, this.value, args);
+        TranslationFormat format = this.format;
+        if (format == null) {
+            format = TranslationFormat.compile(this.value);
+            this.format = format;
+        }
+        return format.format(locale, args);
     }
 }
@@ -26,11 +26,17 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Collection;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>A translation class designed to be used for ResourceBundles. For
  * convenience, most users will want to wrap this in a class that keeps track of
@@ -48,11 +54,26 @@
  * <br />&nbsp; &nbsp; &nbsp; &nbsp; return Texts.of(new
  * ResourceBundleTranslation(key, LOOKUP_FUNC), args);<br />&nbsp; &nbsp; }
  * <br />}</code></blockquote>
+ *
+ * <p>By default, the format string is looked up in the resource bundle and
+ * parsed on every call, so reloaded bundles take effect immediately.
+ * Translations which are kept and used repeatedly can instead be created with
+ * {@link #ResourceBundleTranslation(String, Function, boolean) caching}
+ * enabled. They look up and parse the format of each locale once, and must
+ * be cleared with {@link #clearCache()} when the bundles are reloaded.</p>
  */
 public class ResourceBundleTranslation implements Translation {
 
+    /**
+     * The maximum number of locales for which the formats of a caching
+     * translation are kept. Formats which were not used recently are
+     * usually evicted first, but the eviction order is not strict.
+     */
+    public static final int MAX_CACHED_LOCALES = 16;
+
     private final String key;
     private final Function<Locale, ResourceBundle> bundleFunction;
+    @Nullable private final Cache<Locale, TranslationFormat> formats;
 
     /**
      * Create a ResourceBundle-backed translation for the given key and bundle
@@ -62,8 +83,24 @@ public class ResourceBundleTranslation implements Translation {
      * @param bundleFunction The bundle function to get a bundle from
      */
     public ResourceBundleTranslation(String key, Function<Locale, ResourceBundle> bundleFunction) {
-        this.key = key;
-        this.bundleFunction = bundleFunction;
+        this(key, bundleFunction, false);
+    }
+
+    /**
+     * Create a ResourceBundle-backed translation for the given key and bundle
+     * factory, which optionally caches the parsed format of each locale.
+     *
+     * <p>A caching translation does not see changes to the resource bundles
+     * until {@link #clearCache()} is called.</p>
+     *
+     * @param key The key to use
+     * @param bundleFunction The bundle function to get a bundle from
+     * @param cacheFormats Whether to cache the formats of each locale
+     */
+    public ResourceBundleTranslation(String key, Function<Locale, ResourceBundle> bundleFunction, boolean cacheFormats) {
+        this.key = checkNotNull(key, "key");
+        this.bundleFunction = checkNotNull(bundleFunction, "bundleFunction");
+        this.formats = cacheFormats ? CacheBuilder.newBuilder().maximumSize(MAX_CACHED_LOCALES).build() : null;
     }
 
     @Override
@@ -71,9 +108,99 @@ public String getId() {
         return this.key;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The format string is looked up in the resource bundle on every call,
+     * unless this translation caches its formats, in which case the format
+     * looked up first is returned until {@link #clearCache()} is called.</p>
+     */
     @Override
     public String get(Locale locale) {
+        if (this.formats == null) {
+            return lookup(checkNotNull(locale, "locale"));
+        }
+        return getFormat(locale).getPattern();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The format string is looked up in the resource bundle on every call,
+     * unless this translation caches its formats, in which case the format
+     * looked up first is used until {@link #clearCache()} is called.</p>
+     */
+    @Override
+    public String get(Locale locale, Object... args) {
+        return getFormat(locale).format(locale, args);
+    }
+
+    /**
+     * Gets whether this translation caches the formats of each locale.
+     *
+     * @return True if the formats are cached
+     */
+    public boolean isCachingFormats() {
+        return this.formats != null;
+    }
+
+    /**
+     * Looks up and caches the formats of the given locales, so that later
+     * translations to these locales don't have to. This does nothing if this
+     * translation does not {@link #isCachingFormats() cache} its formats.
+     *
+     * @param locales The locales to load
+     */
+    public void prewarm(Collection<Locale> locales) {
+        checkNotNull(locales, "locales");
+        if (this.formats != null) {
+            for (Locale locale : locales) {
+                getFormat(locale);
+            }
+        }
+    }
+
+    /**
+     * Looks up and caches the formats of the given locales for all of the
+     * given translations.
+     *
+     * @param translations The translations to load
+     * @param locales The locales to load
+     * @see #prewarm(Collection)
+     */
+    public static void prewarm(Iterable<? extends ResourceBundleTranslation> translations, Collection<Locale> locales) {
+        checkNotNull(translations, "translations");
+        for (ResourceBundleTranslation translation : translations) {
+            translation.prewarm(locales);
+        }
+    }
+
+    /**
+     * Clears the cached formats of this translation, which is required after
+     * the underlying resource bundles were reloaded. This also discards the
+     * output translated before, see {@link TranslationReloads}.
+     */
+    public void clearCache() {
+        if (this.formats != null) {
+            this.formats.invalidateAll();
+        }
+        TranslationReloads.notifyReloaded();
+    }
+
+    private TranslationFormat getFormat(Locale locale) {
         checkNotNull(locale, "locale");
+        if (this.formats == null) {
+            return TranslationFormat.compile(lookup(locale));
+        }
+        TranslationFormat format = this.formats.getIfPresent(locale);
+        if (format == null) {
+            format = TranslationFormat.compile(lookup(locale));
+            this.formats.put(locale, format);
+        }
+        return format;
+    }
+
+    private String lookup(Locale locale) {
         try {
             ResourceBundle bundle = this.bundleFunction.apply(locale);
             return bundle == null ? this.key : bundle.getString(this.key);
@@ -81,9 +208,4 @@ public String get(Locale locale) {
             return this.key;
         }
     }
-
-    @Override
-    public String get(Locale locale, Object... args) {
-        return String.format(locale, get(locale), args);
-    }
 }
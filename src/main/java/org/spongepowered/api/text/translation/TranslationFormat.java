@@ -0,0 +1,162 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+/**
+ * A translation format string as accepted by {@link String#format(Locale,
+ * String, Object...)}, parsed once into a plan of literal segments and
+ * argument slots.
+ *
+ * <p>Only plain {@code %s} and {@code %n$s} specifiers, as well as
+ * {@code %%} and {@code %n}, are compiled, which covers almost every
+ * translation. Any other specifier makes the whole format fall back to
+ * {@link String#format(Locale, String, Object...)}.</p>
+ */
+final class TranslationFormat {
+
+    private static final int MAX_INDEX_DIGITS = 9;
+
+    private final String pattern;
+    // Literal strings and boxed argument indices, null if not compiled
+    @Nullable private final Object[] segments;
+
+    private TranslationFormat(String pattern, @Nullable Object[] segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses the given format string.
+     *
+     * @param pattern The format string
+     * @return The parsed format
+     */
+    static TranslationFormat compile(String pattern) {
+        final List<Object> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        final int length = pattern.length();
+        int ordinaryIndex = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = pattern.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (i + 1 >= length) {
+                return new TranslationFormat(pattern, null);
+            }
+            final char next = pattern.charAt(i + 1);
+            if (next == '%') {
+                literal.append('%');
+                i += 2;
+                continue;
+            } else if (next == 'n') {
+                literal.append(System.lineSeparator());
+                i += 2;
+                continue;
+            }
+            final int index;
+            if (next == 's') {
+                index = ordinaryIndex++;
+                i += 2;
+            } else {
+                int j = i + 1;
+                while (j < length && j - i - 1 < MAX_INDEX_DIGITS && Character.isDigit(pattern.charAt(j))) {
+                    j++;
+                }
+                if (j == i + 1 || j + 1 >= length || pattern.charAt(j) != '$' || pattern.charAt(j + 1) != 's') {
+                    return new TranslationFormat(pattern, null);
+                }
+                index = Integer.parseInt(pattern.substring(i + 1, j)) - 1;
+                if (index < 0) {
+                    return new TranslationFormat(pattern, null);
+                }
+                i = j + 2;
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(index);
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return new TranslationFormat(pattern, segments.toArray());
+    }
+
+    /**
+     * Gets the format string.
+     *
+     * @return The format string
+     */
+    String getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Formats the given arguments, with the same result as
+     * {@link String#format(Locale, String, Object...)}.
+     *
+     * @param locale The locale to format with
+     * @param args The arguments
+     * @return The formatted string
+     */
+    String format(Locale locale, @Nullable Object... args) {
+        if (this.segments == null) {
+            return String.format(locale, this.pattern, args);
+        }
+        final Object[] arguments = args == null ? new Object[0] : args;
+        final StringBuilder builder = new StringBuilder(this.pattern.length() + 16 * arguments.length);
+        for (Object segment : this.segments) {
+            if (segment instanceof String) {
+                builder.append((String) segment);
+                continue;
+            }
+            final int index = (Integer) segment;
+            if (index >= arguments.length) {
+                // Let the formatter throw the appropriate exception
+                return String.format(locale, this.pattern, arguments);
+            }
+            final Object arg = arguments[index];
+            if (arg instanceof Formattable) {
+                builder.append(String.format(locale, "%s", arg));
+            } else {
+                builder.append(arg);
+            }
+        }
+        return builder.toString();
+    }
+
+}
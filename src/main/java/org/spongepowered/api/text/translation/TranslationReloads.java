@@ -0,0 +1,68 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.serializer.TextSerializer;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the reloads of translations, so that output which was translated
+ * before a reload can be discarded.
+ *
+ * <p>Anything reloading the source of {@link Translation}s, such as the
+ * resource bundles of a {@link ResourceBundleTranslation}, must call
+ * {@link #notifyReloaded()} afterwards. The translated forms cached by
+ * {@link Text#toSerialized(TextSerializer, Locale)} are only reused while
+ * the {@link #getGeneration() generation} is unchanged.</p>
+ */
+public final class TranslationReloads {
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /**
+     * Gets the current generation, which changes every time translations
+     * are reloaded.
+     *
+     * @return The current generation
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Notifies that translations were reloaded, which discards all the
+     * output that was translated before.
+     */
+    public static void notifyReloaded() {
+        GENERATION.incrementAndGet();
+    }
+
+    private TranslationReloads() {
+    }
+
+}
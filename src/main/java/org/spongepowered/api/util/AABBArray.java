@@ -0,0 +1,272 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A growable array of axis aligned bounding boxes, stored as a structure of
+ * arrays: one primitive array per corner coordinate. This allows a single
+ * ray or box to be tested against many boxes in tight loops over primitive
+ * arrays, without creating an object per box.
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @see MutableAABB
+ */
+public final class AABBArray {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] minX;
+    private double[] minY;
+    private double[] minZ;
+    private double[] maxX;
+    private double[] maxY;
+    private double[] maxZ;
+    private int size;
+
+    /**
+     * Constructs a new empty array of boxes.
+     */
+    public AABBArray() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new empty array of boxes with the given initial capacity.
+     *
+     * @param capacity The initial capacity
+     */
+    public AABBArray(int capacity) {
+        checkArgument(capacity >= 0, "capacity cannot be negative: %s", capacity);
+        this.minX = new double[capacity];
+        this.minY = new double[capacity];
+        this.minZ = new double[capacity];
+        this.maxX = new double[capacity];
+        this.maxY = new double[capacity];
+        this.maxZ = new double[capacity];
+    }
+
+    /**
+     * Gets the number of boxes in this array.
+     *
+     * @return The number of boxes
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes all the boxes from this array, keeping its capacity.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    /**
+     * Adds a box given by two opposite corners.
+     *
+     * @param x1 The first corner x coordinate
+     * @param y1 The first corner y coordinate
+     * @param z1 The first corner z coordinate
+     * @param x2 The second corner x coordinate
+     * @param y2 The second corner y coordinate
+     * @param z2 The second corner z coordinate
+     * @return The index of the added box
+     */
+    public int add(double x1, double y1, double z1, double x2, double y2, double z2) {
+        if (this.size == this.minX.length) {
+            final int capacity = Math.max(DEFAULT_CAPACITY, this.size * 2);
+            this.minX = Arrays.copyOf(this.minX, capacity);
+            this.minY = Arrays.copyOf(this.minY, capacity);
+            this.minZ = Arrays.copyOf(this.minZ, capacity);
+            this.maxX = Arrays.copyOf(this.maxX, capacity);
+            this.maxY = Arrays.copyOf(this.maxY, capacity);
+            this.maxZ = Arrays.copyOf(this.maxZ, capacity);
+        }
+        final int index = this.size++;
+        this.minX[index] = Math.min(x1, x2);
+        this.minY[index] = Math.min(y1, y2);
+        this.minZ[index] = Math.min(z1, z2);
+        this.maxX[index] = Math.max(x1, x2);
+        this.maxY[index] = Math.max(y1, y2);
+        this.maxZ[index] = Math.max(z1, z2);
+        return index;
+    }
+
+    /**
+     * Adds a copy of the given box.
+     *
+     * @param box The box to add
+     * @return The index of the added box
+     */
+    public int add(AABB box) {
+        checkNotNull(box, "box");
+        final Vector3d min = box.getMin();
+        final Vector3d max = box.getMax();
+        return add(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    /**
+     * Adds a copy of the given box.
+     *
+     * @param box The box to add
+     * @return The index of the added box
+     */
+    public int add(MutableAABB box) {
+        checkNotNull(box, "box");
+        return add(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ());
+    }
+
+    /**
+     * Copies the box at the given index into the destination box.
+     *
+     * @param index The index of the box
+     * @param destination The box to copy into
+     * @return The destination box
+     */
+    public MutableAABB get(int index, MutableAABB destination) {
+        checkElementIndex(index, this.size);
+        checkNotNull(destination, "destination");
+        return destination.set(this.minX[index], this.minY[index], this.minZ[index], this.maxX[index], this.maxY[index], this.maxZ[index]);
+    }
+
+    /**
+     * Finds the boxes that intersect the given box and writes their indices,
+     * in ascending order, into the given array. At most
+     * {@code indices.length} indices are written.
+     *
+     * @param box The box to test against
+     * @param indices The array to write the indices of intersecting boxes to
+     * @return The number of indices written
+     */
+    public int intersects(MutableAABB box, int[] indices) {
+        checkNotNull(box, "box");
+        checkNotNull(indices, "indices");
+        final double boxMinX = box.getMinX();
+        final double boxMinY = box.getMinY();
+        final double boxMinZ = box.getMinZ();
+        final double boxMaxX = box.getMaxX();
+        final double boxMaxY = box.getMaxY();
+        final double boxMaxZ = box.getMaxZ();
+        int count = 0;
+        for (int i = 0; i < this.size && count < indices.length; i++) {
+            // Non short-circuiting to keep the loop body free of branches
+            if (this.maxX[i] >= boxMinX & boxMaxX >= this.minX[i]
+                    & this.maxY[i] >= boxMinY & boxMaxY >= this.minY[i]
+                    & this.maxZ[i] >= boxMinZ & boxMaxZ >= this.minZ[i]) {
+                indices[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Tests for intersection between every box and a ray defined by a
+     * starting point and a direction, and returns the index of the box with
+     * the closest intersection. The intersection point with a box is
+     * {@code start + direction * t}, see
+     * {@link MutableAABB#intersects(double, double, double, double, double,
+     * double)}.
+     *
+     * <p>If an array of distances is given, the {@code t} value of every box
+     * is written to it at the index of the box, or a negative value if the
+     * box is not intersected.</p>
+     *
+     * @param startX The x coordinate of the start of the ray
+     * @param startY The y coordinate of the start of the ray
+     * @param startZ The z coordinate of the start of the ray
+     * @param directionX The x coordinate of the direction of the ray
+     * @param directionY The y coordinate of the direction of the ray
+     * @param directionZ The z coordinate of the direction of the ray
+     * @param distances The array to write the intersection multiplier of each
+     *     box to, with a length of at least {@link #size()}, or null
+     * @return The index of the closest intersected box, or -1 if none is
+     *         intersected
+     */
+    public int intersects(double startX, double startY, double startZ, double directionX, double directionY, double directionZ,
+            @Nullable double[] distances) {
+        checkArgument(distances == null || distances.length >= this.size, "distances is smaller than the number of boxes");
+        final double inverseX = 1 / directionX;
+        final double inverseY = 1 / directionY;
+        final double inverseZ = 1 / directionZ;
+        int closest = -1;
+        double closestDistance = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < this.size; i++) {
+            final double t = intersectRay(this.minX[i], this.minY[i], this.minZ[i], this.maxX[i], this.maxY[i], this.maxZ[i],
+                    startX, startY, startZ, inverseX, inverseY, inverseZ);
+            if (distances != null) {
+                distances[i] = t;
+            }
+            if (t >= 0 && t < closestDistance) {
+                closestDistance = t;
+                closest = i;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Intersects a ray, given by its start and the inverse of its direction,
+     * with a box using the slab method.
+     *
+     * @return The multiplier of the direction to the intersection point, or
+     *         -1 if there is no intersection
+     */
+    static double intersectRay(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+            double startX, double startY, double startZ, double inverseX, double inverseY, double inverseZ) {
+        // The comparisons are written so that a NaN, from a ray starting on a
+        // plane it runs parallel to, never produces an intersection
+        double tNear = Double.NEGATIVE_INFINITY;
+        double tFar = Double.POSITIVE_INFINITY;
+        double t1 = (minX - startX) * inverseX;
+        double t2 = (maxX - startX) * inverseX;
+        tNear = Math.max(tNear, t1 < t2 ? t1 : t2);
+        tFar = Math.min(tFar, t1 < t2 ? t2 : t1);
+        t1 = (minY - startY) * inverseY;
+        t2 = (maxY - startY) * inverseY;
+        tNear = Math.max(tNear, t1 < t2 ? t1 : t2);
+        tFar = Math.min(tFar, t1 < t2 ? t2 : t1);
+        t1 = (minZ - startZ) * inverseZ;
+        t2 = (maxZ - startZ) * inverseZ;
+        tNear = Math.max(tNear, t1 < t2 ? t1 : t2);
+        tFar = Math.min(tFar, t1 < t2 ? t2 : t1);
+        if (!(tNear <= tFar) || !(tFar >= 0)) {
+            return -1;
+        }
+        // Use the exit point if the start is inside the box
+        return tNear >= 0 ? tNear : tFar;
+    }
+
+}
@@ -0,0 +1,351 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.world.storage.ChunkLayout;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A hash map from primitive {@code long} keys to objects, typically used to
+ * key values by block or chunk positions packed with a {@link ChunkLayout}.
+ *
+ * <p>Keys are stored unboxed in an open addressed table, so adding an entry
+ * does not create any object once the table is large enough. Null values are
+ * not permitted. This map is not thread safe.</p>
+ *
+ * @param <V> The type of the values
+ * @see ChunkLayout#packBlockPosition(int, int, int)
+ * @see ChunkLayout#packChunkPosition(int, int, int)
+ */
+public final class LongObjectMap<V> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    // A null value marks an empty slot
+    private Object[] values;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates a new, empty map.
+     */
+    public LongObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a new, empty map able to hold the given number of entries
+     * without resizing.
+     *
+     * @param expectedSize The expected number of entries
+     */
+    public LongObjectMap(int expectedSize) {
+        checkArgument(expectedSize >= 0, "The expected size cannot be negative");
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < MAXIMUM_CAPACITY && capacity - (capacity >> 2) < expectedSize) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.resizeThreshold = capacity - (capacity >> 2);
+    }
+
+    private static int hash(long key) {
+        // The finalizer of MurmurHash3, spreading the coordinates over all bits
+        key = (key ^ key >>> 33) * 0xff51afd7ed558ccdL;
+        key = (key ^ key >>> 33) * 0xc4ceb9fe1a85ec53L;
+        return (int) (key ^ key >>> 33);
+    }
+
+    private int indexOf(long key) {
+        final int mask = this.keys.length - 1;
+        int index = hash(key) & mask;
+        while (this.values[index] != null) {
+            if (this.keys[index] == key) {
+                return index;
+            }
+            index = index + 1 & mask;
+        }
+        // Encode the free slot the key would be inserted at
+        return -1 - index;
+    }
+
+    /**
+     * Gets the number of entries in this map.
+     *
+     * @return The number of entries
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether or not this map is empty.
+     *
+     * @return Whether or not this map is empty
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets whether or not this map contains a value for the given key.
+     *
+     * @param key The key
+     * @return Whether or not the key is present
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Gets the value mapped to the given key.
+     *
+     * @param key The key
+     * @return The value, or null if the key is not present
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(long key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : (V) this.values[index];
+    }
+
+    /**
+     * Gets the value mapped to the given key, or the given default value if
+     * the key is not present.
+     *
+     * @param key The key
+     * @param defaultValue The default value
+     * @return The value, or the default value
+     */
+    @Nullable
+    public V getOrDefault(long key, @Nullable V defaultValue) {
+        final V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Maps the given value to the given key.
+     *
+     * @param key The key
+     * @param value The value
+     * @return The value previously mapped to the key, or null if there was none
+     * @throws IllegalStateException If the key is not present and the map
+     *     already holds the maximum number of entries
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V put(long key, V value) {
+        checkNotNull(value, "value");
+        int index = indexOf(key);
+        if (index >= 0) {
+            final V previous = (V) this.values[index];
+            this.values[index] = value;
+            return previous;
+        }
+        if (this.size >= this.resizeThreshold) {
+            // The table must never fill up, the probes for absent keys
+            // wouldn't terminate
+            if (this.keys.length == MAXIMUM_CAPACITY) {
+                throw new IllegalStateException("The map cannot hold more than " + this.resizeThreshold + " entries");
+            }
+            rehash(this.keys.length << 1);
+            index = indexOf(key);
+        }
+        index = -1 - index;
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+        return null;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = this.keys;
+        final Object[] oldValues = this.values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                final int index = -1 - indexOf(oldKeys[i]);
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Removes the value mapped to the given key.
+     *
+     * @param key The key
+     * @return The removed value, or null if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V remove(long key) {
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = (V) this.values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        final int mask = this.keys.length - 1;
+        this.values[index] = null;
+        this.size--;
+        // Shift back the following entries of the probe sequence
+        int free = index;
+        int slot = index + 1 & mask;
+        while (this.values[slot] != null) {
+            final int ideal = hash(this.keys[slot]) & mask;
+            if (slot > free ? ideal <= free || ideal > slot : ideal <= free && ideal > slot) {
+                this.keys[free] = this.keys[slot];
+                this.values[free] = this.values[slot];
+                this.values[slot] = null;
+                free = slot;
+            }
+            slot = slot + 1 & mask;
+        }
+    }
+
+    /**
+     * Removes all the entries of this map.
+     */
+    public void clear() {
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Gets a new array containing all the keys of this map, in no particular
+     * order.
+     *
+     * @return The keys
+     */
+    public long[] keys() {
+        final long[] keys = new long[this.size];
+        int index = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.values[i] != null) {
+                keys[index++] = this.keys[i];
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Passes every entry of this map to the given consumer, in no particular
+     * order. The map must not be modified by the consumer.
+     *
+     * @param consumer The consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        checkNotNull(consumer, "consumer");
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.values[i] != null) {
+                consumer.accept(this.keys[i], (V) this.values[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof LongObjectMap)) {
+            return false;
+        }
+        final LongObjectMap<?> that = (LongObjectMap<?>) other;
+        if (this.size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.values[i] != null && !this.values[i].equals(that.get(this.keys[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.values[i] != null) {
+                hashCode += Long.hashCode(this.keys[i]) ^ this.values[i].hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.values[i] != null) {
+                if (builder.length() > 1) {
+                    builder.append(", ");
+                }
+                builder.append(this.keys[i]).append('=').append(this.values[i]);
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Accepts the entries of a {@link LongObjectMap}.
+     *
+     * @param <V> The type of the values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Accepts an entry.
+         *
+         * @param key The key
+         * @param value The value
+         */
+        void accept(long key, V value);
+
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.world.storage.ChunkLayout;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A hash set of primitive {@code long} values, typically used to hold block
+ * or chunk positions packed with a {@link ChunkLayout}.
+ *
+ * <p>Values are stored unboxed, so adding a value does not create any object
+ * once the set is large enough. This set is not thread safe.</p>
+ *
+ * @see LongObjectMap
+ */
+public final class LongSet {
+
+    private final LongObjectMap<Boolean> map;
+
+    /**
+     * Creates a new, empty set.
+     */
+    public LongSet() {
+        this(0);
+    }
+
+    /**
+     * Creates a new, empty set able to hold the given number of values
+     * without resizing.
+     *
+     * @param expectedSize The expected number of values
+     */
+    public LongSet(int expectedSize) {
+        this.map = new LongObjectMap<>(expectedSize);
+    }
+
+    /**
+     * Gets the number of values in this set.
+     *
+     * @return The number of values
+     */
+    public int size() {
+        return this.map.size();
+    }
+
+    /**
+     * Gets whether or not this set is empty.
+     *
+     * @return Whether or not this set is empty
+     */
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    /**
+     * Gets whether or not this set contains the given value.
+     *
+     * @param value The value
+     * @return Whether or not the value is present
+     */
+    public boolean contains(long value) {
+        return this.map.containsKey(value);
+    }
+
+    /**
+     * Adds the given value to this set.
+     *
+     * @param value The value
+     * @return True if the value was not already present
+     * @throws IllegalStateException If the value is not present and the set
+     *     already holds the maximum number of values
+     */
+    public boolean add(long value) {
+        return this.map.put(value, Boolean.TRUE) == null;
+    }
+
+    /**
+     * Removes the given value from this set.
+     *
+     * @param value The value
+     * @return True if the value was present
+     */
+    public boolean remove(long value) {
+        return this.map.remove(value) != null;
+    }
+
+    /**
+     * Removes all the values of this set.
+     */
+    public void clear() {
+        this.map.clear();
+    }
+
+    /**
+     * Gets a new array containing all the values of this set, in no particular
+     * order.
+     *
+     * @return The values
+     */
+    public long[] toArray() {
+        return this.map.keys();
+    }
+
+    /**
+     * Passes every value of this set to the given consumer, in no particular
+     * order. The set must not be modified by the consumer.
+     *
+     * @param consumer The consumer
+     */
+    public void forEach(LongConsumer consumer) {
+        checkNotNull(consumer, "consumer");
+        this.map.forEach((key, value) -> consumer.accept(key));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof LongSet && this.map.equals(((LongSet) other).map);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+        return builder.append(']').toString();
+    }
+
+}
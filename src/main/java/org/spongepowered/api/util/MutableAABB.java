@@ -0,0 +1,361 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3d;
+
+/**
+ * A mutable axis aligned bounding box, represented by the six coordinates of
+ * its minimum and maximum corners.
+ *
+ * <p>Unlike {@link AABB}, this box is meant to be reused: every operation
+ * writes its result into this box or into a given destination box instead
+ * of creating a new instance. The box may be degenerate, a dimension is
+ * allowed to be 0.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @see AABBArray
+ */
+public final class MutableAABB {
+
+    private double minX;
+    private double minY;
+    private double minZ;
+    private double maxX;
+    private double maxY;
+    private double maxZ;
+
+    /**
+     * Constructs a new bounding box with both corners at the origin.
+     */
+    public MutableAABB() {
+    }
+
+    /**
+     * Constructs a new bounding box from two opposite corners.
+     *
+     * @param x1 The first corner x coordinate
+     * @param y1 The first corner y coordinate
+     * @param z1 The first corner z coordinate
+     * @param x2 The second corner x coordinate
+     * @param y2 The second corner y coordinate
+     * @param z2 The second corner z coordinate
+     */
+    public MutableAABB(double x1, double y1, double z1, double x2, double y2, double z2) {
+        set(x1, y1, z1, x2, y2, z2);
+    }
+
+    /**
+     * Constructs a new bounding box with the same corners as the given box.
+     *
+     * @param box The box to copy
+     */
+    public MutableAABB(AABB box) {
+        set(box);
+    }
+
+    /**
+     * Sets the corners of this box from two opposite corners.
+     *
+     * @param x1 The first corner x coordinate
+     * @param y1 The first corner y coordinate
+     * @param z1 The first corner z coordinate
+     * @param x2 The second corner x coordinate
+     * @param y2 The second corner y coordinate
+     * @param z2 The second corner z coordinate
+     * @return This box
+     */
+    public MutableAABB set(double x1, double y1, double z1, double x2, double y2, double z2) {
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+        return this;
+    }
+
+    /**
+     * Sets the corners of this box to the corners of the given box.
+     *
+     * @param box The box to copy
+     * @return This box
+     */
+    public MutableAABB set(AABB box) {
+        checkNotNull(box, "box");
+        final Vector3d min = box.getMin();
+        final Vector3d max = box.getMax();
+        return setUnchecked(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    /**
+     * Sets the corners of this box to the corners of the given box.
+     *
+     * @param box The box to copy
+     * @return This box
+     */
+    public MutableAABB set(MutableAABB box) {
+        checkNotNull(box, "box");
+        return setUnchecked(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+    }
+
+    private MutableAABB setUnchecked(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        return this;
+    }
+
+    /**
+     * Gets the x coordinate of the minimum corner.
+     *
+     * @return The minimum x coordinate
+     */
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Gets the y coordinate of the minimum corner.
+     *
+     * @return The minimum y coordinate
+     */
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Gets the z coordinate of the minimum corner.
+     *
+     * @return The minimum z coordinate
+     */
+    public double getMinZ() {
+        return this.minZ;
+    }
+
+    /**
+     * Gets the x coordinate of the maximum corner.
+     *
+     * @return The maximum x coordinate
+     */
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Gets the y coordinate of the maximum corner.
+     *
+     * @return The maximum y coordinate
+     */
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Gets the z coordinate of the maximum corner.
+     *
+     * @return The maximum z coordinate
+     */
+    public double getMaxZ() {
+        return this.maxZ;
+    }
+
+    /**
+     * Checks if the bounding box contains a point.
+     *
+     * @param x The x coordinate of the point
+     * @param y The y coordinate of the point
+     * @param z The z coordinate of the point
+     * @return Whether or not the box contains the point
+     */
+    public boolean contains(double x, double y, double z) {
+        return this.minX <= x && this.maxX >= x
+               && this.minY <= y && this.maxY >= y
+               && this.minZ <= z && this.maxZ >= z;
+    }
+
+    /**
+     * Checks if the bounding box intersects another.
+     *
+     * @param other The other bounding box to check
+     * @return Whether this bounding box intersects with the other
+     */
+    public boolean intersects(MutableAABB other) {
+        checkNotNull(other, "other");
+        return intersectsBox(other.minX, other.minY, other.minZ, other.maxX, other.maxY, other.maxZ);
+    }
+
+    /**
+     * Checks if the bounding box intersects another.
+     *
+     * @param other The other bounding box to check
+     * @return Whether this bounding box intersects with the other
+     */
+    public boolean intersects(AABB other) {
+        checkNotNull(other, "other");
+        final Vector3d min = other.getMin();
+        final Vector3d max = other.getMax();
+        return intersectsBox(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    private boolean intersectsBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        return this.maxX >= minX && maxX >= this.minX
+               && this.maxY >= minY && maxY >= this.minY
+               && this.maxZ >= minZ && maxZ >= this.minZ;
+    }
+
+    /**
+     * Tests for intersection between the box and a ray defined by a starting
+     * point and a direction. The intersection point is
+     * {@code start + direction * t}, where {@code t} is the returned value.
+     *
+     * <p>If the start is inside the box, the exit point of the ray is used.
+     * Rays running exactly along a face of the box may not be reported as
+     * intersecting.</p>
+     *
+     * @param startX The x coordinate of the start of the ray
+     * @param startY The y coordinate of the start of the ray
+     * @param startZ The z coordinate of the start of the ray
+     * @param directionX The x coordinate of the direction of the ray
+     * @param directionY The y coordinate of the direction of the ray
+     * @param directionZ The z coordinate of the direction of the ray
+     * @return The multiplier of the direction to the intersection point, or
+     *         a negative value if there is no intersection
+     * @see AABB#intersects(Vector3d, Vector3d)
+     */
+    public double intersects(double startX, double startY, double startZ, double directionX, double directionY, double directionZ) {
+        return AABBArray.intersectRay(this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ,
+                startX, startY, startZ, 1 / directionX, 1 / directionY, 1 / directionZ);
+    }
+
+    /**
+     * Offsets this bounding box by a given amount.
+     *
+     * @param x The amount of offset for the x coordinate
+     * @param y The amount of offset for the y coordinate
+     * @param z The amount of offset for the z coordinate
+     * @return This box
+     */
+    public MutableAABB offset(double x, double y, double z) {
+        return offset(x, y, z, this);
+    }
+
+    /**
+     * Offsets this bounding box by a given amount and writes the result into
+     * the destination box. This box is left unchanged, unless it is the
+     * destination.
+     *
+     * @param x The amount of offset for the x coordinate
+     * @param y The amount of offset for the y coordinate
+     * @param z The amount of offset for the z coordinate
+     * @param destination The box to write the result into
+     * @return The destination box
+     */
+    public MutableAABB offset(double x, double y, double z, MutableAABB destination) {
+        checkNotNull(destination, "destination");
+        return destination.setUnchecked(this.minX + x, this.minY + y, this.minZ + z, this.maxX + x, this.maxY + y, this.maxZ + z);
+    }
+
+    /**
+     * Expands this bounding box by a given amount in both directions. The
+     * expansion is applied half and half to the minimum and maximum corners.
+     *
+     * @param x The amount of expansion for the x coordinate
+     * @param y The amount of expansion for the y coordinate
+     * @param z The amount of expansion for the z coordinate
+     * @return This box
+     */
+    public MutableAABB expand(double x, double y, double z) {
+        return expand(x, y, z, this);
+    }
+
+    /**
+     * Expands this bounding box by a given amount in both directions and
+     * writes the result into the destination box. The expansion is applied
+     * half and half to the minimum and maximum corners. This box is left
+     * unchanged, unless it is the destination.
+     *
+     * @param x The amount of expansion for the x coordinate
+     * @param y The amount of expansion for the y coordinate
+     * @param z The amount of expansion for the z coordinate
+     * @param destination The box to write the result into
+     * @return The destination box
+     */
+    public MutableAABB expand(double x, double y, double z, MutableAABB destination) {
+        checkNotNull(destination, "destination");
+        x /= 2;
+        y /= 2;
+        z /= 2;
+        return destination.set(this.minX - x, this.minY - y, this.minZ - z, this.maxX + x, this.maxY + y, this.maxZ + z);
+    }
+
+    /**
+     * Creates an immutable {@link AABB} with the corners of this box.
+     *
+     * @return The new immutable box
+     * @throws IllegalArgumentException If this box is degenerate
+     */
+    public AABB toAABB() {
+        return new AABB(this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MutableAABB)) {
+            return false;
+        }
+        final MutableAABB aabb = (MutableAABB) other;
+        return Double.compare(this.minX, aabb.minX) == 0 && Double.compare(this.minY, aabb.minY) == 0
+               && Double.compare(this.minZ, aabb.minZ) == 0 && Double.compare(this.maxX, aabb.maxX) == 0
+               && Double.compare(this.maxY, aabb.maxY) == 0 && Double.compare(this.maxZ, aabb.maxZ) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Double.hashCode(this.minX);
+        result = 31 * result + Double.hashCode(this.minY);
+        result = 31 * result + Double.hashCode(this.minZ);
+        result = 31 * result + Double.hashCode(this.maxX);
+        result = 31 * result + Double.hashCode(this.maxY);
+        result = 31 * result + Double.hashCode(this.maxZ);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableAABB((" + this.minX + ", " + this.minY + ", " + this.minZ + ") to ("
+               + this.maxX + ", " + this.maxY + ", " + this.maxZ + "))";
+    }
+
+}
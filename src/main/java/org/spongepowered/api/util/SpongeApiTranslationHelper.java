@@ -28,7 +28,9 @@
 import org.spongepowered.api.text.translation.ResourceBundleTranslation;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -43,6 +45,10 @@ public class SpongeApiTranslationHelper {
     private static final Function<Locale, ResourceBundle> LOOKUP_FUNC = input ->
             ResourceBundle.getBundle("org.spongepowered.api.Translations", input);
 
+    // The bundle of the API is never reloaded, so the translations are kept
+    // and cache their formats
+    private static final Map<String, ResourceBundleTranslation> TRANSLATIONS = new ConcurrentHashMap<>();
+
     /**
      * Gets the translated text for a given string.
      *
@@ -51,7 +57,7 @@ public class SpongeApiTranslationHelper {
      * @return The translatable text
      */
     public static Text t(String key, Object... args) {
-        return Text.of(new ResourceBundleTranslation(key, LOOKUP_FUNC), args);
+        return Text.of(TRANSLATIONS.computeIfAbsent(key, k -> new ResourceBundleTranslation(k, LOOKUP_FUNC, true)), args);
     }
 
     // Suppress default constructor to ensure non-instantiability.
@@ -65,6 +65,15 @@
  * returned. If the distance limit is enabled then it is applied before both
  * filters and acts like the stop filter.</p>
  *
+ * <p>Filters can also be tested against the {@link BlockRayCursor} of the ray,
+ * see {@link BlockRayBuilder#cursorStopFilter(Predicate)} and
+ * {@link BlockRayBuilder#cursorSkipFilter(Predicate)}. Cursor filters are
+ * called before the filters of the same kind tested against a
+ * {@link BlockRayHit}, which is only created when such a filter is present or
+ * when the hit is returned by {@link #next()}. Iterating a ray with
+ * {@link #advanceCursor()} and only using cursor filters does not create any
+ * object per traversed block.</p>
+ *
  * <p>Any one instance of a {@link Predicate} should only be run on one path.
  * It is not specified that {@link Predicate}s have to be stateless, pure
  * functions. They are allowed to keep state along an individual path, based on
@@ -100,6 +109,9 @@
     // Skipping and ending test predicates
     private final Predicate<BlockRayHit<E>> skipFilter;
     private final Predicate<BlockRayHit<E>> stopFilter;
+    // Skipping and ending test predicates on the cursor, tested first
+    private final Predicate<BlockRayCursor<E>> cursorSkipFilter;
+    private final Predicate<BlockRayCursor<E>> cursorStopFilter;
     // Extent to iterate in
     private final E extent;
     // Starting position
@@ -137,17 +149,24 @@
     private double zPlaneT;
     // Limits to help prevent infinite iteration
     private final double distanceLimit;
-    // Last block hit
+    // Last block, updated in place on every step
+    private final BlockRayCursor<E> cursor;
+    // Last block hit, lazily created from the cursor
     private BlockRayHit<E> hit;
     // If hasNext() is called, we need to move ahead to check the next hit
     private boolean ahead;
+    // Set once a limit has been reached, until the next reset
+    private boolean ended;
 
-    private BlockRay(Predicate<BlockRayHit<E>> skipFilter, Predicate<BlockRayHit<E>> stopFilter, E extent, Vector3d position, Vector3d direction,
-            boolean narrowPhase, double distanceLimit) {
+    private BlockRay(Predicate<BlockRayHit<E>> skipFilter, Predicate<BlockRayHit<E>> stopFilter, Predicate<BlockRayCursor<E>> cursorSkipFilter,
+            Predicate<BlockRayCursor<E>> cursorStopFilter, E extent, Vector3d position, Vector3d direction, boolean narrowPhase,
+            double distanceLimit) {
         checkArgument(direction.lengthSquared() != 0, "Direction cannot be the zero vector");
 
         this.skipFilter = skipFilter;
         this.stopFilter = stopFilter;
+        this.cursorSkipFilter = cursorSkipFilter;
+        this.cursorStopFilter = cursorStopFilter;
 
         this.extent = extent;
         this.position = position;
@@ -157,6 +176,8 @@ private BlockRay(Predicate<BlockRayHit<E>> skipFilter, Predicate<BlockRayHit<E>>
 
         this.distanceLimit = distanceLimit;
 
+        this.cursor = new BlockRayCursor<>(extent, position, direction);
+
         // Figure out the direction of the ray for each axis
         if (this.direction.getX() >= 0) {
             this.xPlaneIncrement = 1;
@@ -218,23 +239,27 @@ public final void reset() {
         this.normalCurrent = Vector3d.ZERO;
 
         // Reset the block
+        this.cursor.set(this.xCurrent, this.yCurrent, this.zCurrent, this.normalCurrent);
         this.ahead = false;
+        this.ended = false;
         this.hit = null;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>This advances the {@link #getCursor() cursor} to the next block, if
+     * it was not advanced by a previous call already. Calling this method
+     * repeatedly does not skip any block.</p>
+     */
     @Override
     public boolean hasNext() {
         if (this.ahead) {
             // We already checked
             return true;
         }
-        try {
-            advance();
-            this.ahead = true;
-            return true;
-        } catch (NoSuchElementException exception) {
-            return false;
-        }
+        this.ahead = advance();
+        return this.ahead;
     }
 
     @Override
@@ -242,10 +267,44 @@ public BlockRayHit<E> next() {
         if (this.ahead) {
             // We already advanced in hasNext()
             this.ahead = false;
-        } else {
-            advance();
+        } else if (!advance()) {
+            throw new NoSuchElementException("Limit reached");
         }
-        return this.hit;
+        return getHit();
+    }
+
+    /**
+     * Advances the ray to the next accepted block, updating the
+     * {@link #getCursor() cursor} in place instead of creating a
+     * {@link BlockRayHit}. This is equivalent to {@link #next()} when the ray
+     * has a next block.
+     *
+     * @return True if the ray was advanced, false if a limit was reached
+     */
+    public boolean advanceCursor() {
+        if (this.ahead) {
+            // We already advanced in hasNext()
+            this.ahead = false;
+            return true;
+        }
+        return advance();
+    }
+
+    /**
+     * Gets the cursor of this ray, which holds the last block returned by
+     * {@link #next()} or {@link #advanceCursor()}. The same instance is
+     * updated in place every time the ray advances.
+     *
+     * <p>{@link #hasNext()} has to advance the ray to find out whether there
+     * is a next block. After it was called, the cursor therefore already
+     * holds the block that the next call to {@link #next()} or
+     * {@link #advanceCursor()} returns. If it returned false, the cursor
+     * holds the position at which a limit was reached.</p>
+     *
+     * @return The cursor
+     */
+    public BlockRayCursor<E> getCursor() {
+        return this.cursor;
     }
 
     /**
@@ -256,20 +315,39 @@ public BlockRayHit<E> next() {
      * @return The last block of the ray, if any
      */
     public Optional<BlockRayHit<E>> end() {
-        BlockRayHit<E> last = null;
-        while (hasNext()) {
-            last = next();
+        BlockRayCursor<E> last = null;
+        while (advanceCursor()) {
+            if (last == null) {
+                last = new BlockRayCursor<>(this.extent, this.position, this.direction);
+            }
+            last.set(this.cursor);
         }
-        return Optional.ofNullable(last);
+        return last == null ? Optional.empty() : Optional.of(last.toHit());
     }
 
-    @SuppressWarnings("StatementWithEmptyBody")
-    private void advance() {
-        while (!advanceOneBlock()) {
+    private BlockRayHit<E> getHit() {
+        if (this.hit == null) {
+            this.hit = this.cursor.toHit();
         }
+        return this.hit;
     }
 
-    private boolean advanceOneBlock() {
+    private boolean advance() {
+        if (this.ended) {
+            return false;
+        }
+        Step step;
+        do {
+            step = advanceOneBlock();
+        } while (step == Step.SKIPPED);
+        if (step == Step.ENDED) {
+            this.ended = true;
+            return false;
+        }
+        return true;
+    }
+
+    private Step advanceOneBlock() {
         /*
             The ray can be modeled using the following parametric equations:
                 x = d_x * t + p_x
@@ -322,47 +400,53 @@ private boolean advanceOneBlock() {
             solveIntersections();
         }
 
-        BlockRayHit<E> hit = new BlockRayHit<>(this.extent, this.xCurrent, this.yCurrent, this.zCurrent, this.direction, this.normalCurrent);
+        this.hit = null;
+        this.cursor.set(this.xCurrent, this.yCurrent, this.zCurrent, this.normalCurrent);
+        final int xBlock = this.cursor.getBlockX();
+        final int yBlock = this.cursor.getBlockY();
+        final int zBlock = this.cursor.getBlockZ();
 
         // Make sure we actually have a block
-        if (!hit.mapBlock(Extent::containsBlock)) {
-            throw new NoSuchElementException("Extent limit reached");
+        if (!this.extent.containsBlock(xBlock, yBlock, zBlock)) {
+            // Extent limit reached
+            return Step.ENDED;
         }
 
         // Now if using the narrow phase, test on small selection boxes, if needed
-        if (this.narrowPhase && !hit.getExtent().getProperty(hit.getBlockPosition(), FullBlockSelectionBoxProperty.class)
+        if (this.narrowPhase && !this.extent.getProperty(xBlock, yBlock, zBlock, FullBlockSelectionBoxProperty.class)
                 .map(FullBlockSelectionBoxProperty::getValue).orElse(true)) {
             // Get the selection box and perform the narrow phase intersection test
-            final Optional<Tuple<Vector3d, Vector3d>> intersection = hit.mapBlock(Extent::getBlockSelectionBox)
+            final Optional<Tuple<Vector3d, Vector3d>> intersection = this.extent.getBlockSelectionBox(xBlock, yBlock, zBlock)
                 .flatMap(aabb -> aabb.intersects(this.position, this.direction));
-            // Create the new narrow hit if there was an intersection
+            // Move the cursor to the narrow hit if there was an intersection
             if (intersection.isPresent()) {
                 final Tuple<Vector3d, Vector3d> pair = intersection.get();
                 final Vector3d narrowHit = pair.getFirst();
-                hit = new BlockRayHit<>(this.extent, narrowHit.getX(), narrowHit.getY(), narrowHit.getZ(), this.direction, pair.getSecond());
+                this.cursor.set(narrowHit.getX(), narrowHit.getY(), narrowHit.getZ(), pair.getSecond());
             } else {
-                // Otherwise return false to attempt the next block
-                return false;
+                // Otherwise attempt the next block
+                return Step.SKIPPED;
             }
         }
 
         // Check the distance limit if in use
-        if (this.distanceLimit >= 0 && this.position.distanceSquared(hit.getPosition()) > this.distanceLimit * this.distanceLimit) {
-            throw new NoSuchElementException("Distance limit reached");
+        if (this.distanceLimit >= 0 && this.cursor.getDistanceSquared() > this.distanceLimit * this.distanceLimit) {
+            // Distance limit reached
+            return Step.ENDED;
         }
 
-        // Check the block end filter
-        if (!this.stopFilter.test(hit)) {
-            throw new NoSuchElementException("Filter limit reached");
+        // Check the block end filters
+        if (!this.cursorStopFilter.test(this.cursor) || this.stopFilter != ALL_FILTER && !this.stopFilter.test(getHit())) {
+            // Filter limit reached
+            return Step.ENDED;
         }
 
-        // Check the block skip filter
-        if (!this.skipFilter.test(hit)) {
-            return false;
+        // Check the block skip filters
+        if (!this.cursorSkipFilter.test(this.cursor) || this.skipFilter != ALL_FILTER && !this.skipFilter.test(getHit())) {
+            return Step.SKIPPED;
         }
 
-        this.hit = hit;
-        return true;
+        return Step.ACCEPTED;
     }
 
     private void solveIntersections() {
@@ -563,6 +647,8 @@ public static BlockRayBuilder<World> from(Entity entity) {
         private final Vector3d position;
         private Predicate<BlockRayHit<E>> skipFilter = allFilter();
         private Predicate<BlockRayHit<E>> stopFilter = allFilter();
+        private Predicate<BlockRayCursor<E>> cursorSkipFilter = allCursorFilter();
+        private Predicate<BlockRayCursor<E>> cursorStopFilter = allCursorFilter();
         private Vector3d direction = null;
         private double distanceLimit = DEFAULT_DISTANCE_LIMIT;
         private boolean narrowPhase = true;
@@ -654,6 +740,54 @@ public final BlockRayBuilder<E> stopFilter(final Predicate<BlockRayHit<E>>... st
             return this;
         }
 
+        /**
+         * Adds the filter to the block ray, tested against the cursor of the
+         * ray. The block ray will skip over blocks that do not pass this
+         * predicate. This is optional.
+         * Multiple filters will be ANDed together.
+         *
+         * <p>Cursor filters are tested before the ones added through
+         * {@link #skipFilter(Predicate)}, without creating a
+         * {@link BlockRayHit}. The cursor must not be retained by the filter.
+         * </p>
+         *
+         * @param skipFilter The filter to add
+         * @return This for chained calls
+         */
+        public BlockRayBuilder<E> cursorSkipFilter(final Predicate<BlockRayCursor<E>> skipFilter) {
+            checkNotNull(skipFilter, "skipFilter");
+            if (this.cursorSkipFilter == ALL_FILTER) {
+                this.cursorSkipFilter = skipFilter;
+            } else {
+                this.cursorSkipFilter = this.cursorSkipFilter.and(skipFilter);
+            }
+            return this;
+        }
+
+        /**
+         * Adds the filter to the block ray, tested against the cursor of the
+         * ray. The block ray will end if a block does not pass this predicate.
+         * This is optional.
+         * Multiple filters will be ANDed together.
+         *
+         * <p>Cursor filters are tested before the ones added through
+         * {@link #stopFilter(Predicate)}, without creating a
+         * {@link BlockRayHit}. The cursor must not be retained by the filter.
+         * </p>
+         *
+         * @param stopFilter The filter to add
+         * @return This for chained calls
+         */
+        public BlockRayBuilder<E> cursorStopFilter(final Predicate<BlockRayCursor<E>> stopFilter) {
+            checkNotNull(stopFilter, "stopFilter");
+            if (this.cursorStopFilter == ALL_FILTER) {
+                this.cursorStopFilter = stopFilter;
+            } else {
+                this.cursorStopFilter = this.cursorStopFilter.and(stopFilter);
+            }
+            return this;
+        }
+
         /**
          * Sets the direction and ending location. This or setting the direction
          * is required and can only be done once.
@@ -666,7 +800,7 @@ public BlockRayBuilder<E> to(Vector3d end) {
             checkNotNull(end, "end");
             checkArgument(!this.position.equals(end), "Start and end cannot be equal");
             this.direction = end.sub(this.position).normalize();
-            return stopFilter(new TargetBlockFilter<>(end));
+            return cursorStopFilter(new TargetBlockFilter<>(end));
         }
 
         /**
@@ -730,7 +864,8 @@ public Vector3d position() {
          */
         public BlockRay<E> build() {
             checkState(this.direction != null, "Either end point or direction needs to be set");
-            return new BlockRay<>(this.skipFilter, this.stopFilter, this.extent, this.position, this.direction, this.narrowPhase, this.distanceLimit);
+            return new BlockRay<>(this.skipFilter, this.stopFilter, this.cursorSkipFilter, this.cursorStopFilter, this.extent, this.position,
+                    this.direction, this.narrowPhase, this.distanceLimit);
         }
 
         @Override
@@ -763,6 +898,18 @@ public static <E extends Extent> Predicate<BlockRayHit<E>> allFilter() {
         return ALL_FILTER;
     }
 
+    /**
+     * A cursor filter that accepts all blocks.
+     *
+     * @param <E> The extent to be applied in
+     * @return A cursor filter that accepts all blocks
+     * @see #allFilter()
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Extent> Predicate<BlockRayCursor<E>> allCursorFilter() {
+        return ALL_FILTER;
+    }
+
     /**
      * A block type filter that only permits air as a transparent block.
      *
@@ -826,7 +973,7 @@ public boolean test(BlockRayHit<E> lastHit) {
 
     }
 
-    private static class TargetBlockFilter<E extends Extent> implements Predicate<BlockRayHit<E>> {
+    private static class TargetBlockFilter<E extends Extent> implements Predicate<BlockRayCursor<E>> {
 
         private final Vector3i target;
 
@@ -835,11 +982,17 @@ public boolean test(BlockRayHit<E> lastHit) {
         }
 
         @Override
-        public boolean test(BlockRayHit<E> lastHit) {
+        public boolean test(BlockRayCursor<E> lastHit) {
             return lastHit.getBlockX() != this.target.getX() || lastHit.getBlockY() != this.target.getY()
                 || lastHit.getBlockZ() != this.target.getZ();
         }
 
     }
 
+    private enum Step {
+        ACCEPTED,
+        SKIPPED,
+        ENDED
+    }
+
 }
@@ -0,0 +1,459 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.GenericMath;
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Traces many rays through the same extent at once, reporting the results
+ * into primitive arrays or to a {@link Visitor} instead of creating a
+ * {@link BlockRayHit} for every traversed block.
+ *
+ * <p>When tracing in a {@link World}, the loaded {@link Chunk}s looked up by
+ * one ray are cached and reused by the following rays of the same trace, so
+ * rays passing through the same area only resolve their chunks once. The
+ * cache is discarded at the end of every trace, so a batch can safely be
+ * reused across ticks. In other extents, blocks are resolved through the
+ * extent directly.</p>
+ *
+ * <p>Unlike {@link BlockRay}, a batch only performs a voxel traversal, there
+ * is no narrow phase against the selection boxes of the blocks. As with
+ * {@link BlockRay}, the block containing the origin of a ray is never
+ * visited. A ray ends when its distance limit is reached, or when it leaves
+ * the extent or the loaded area.</p>
+ *
+ * <p>A batch is not thread safe, but may be reused once cleared with
+ * {@link #clear()}.</p>
+ *
+ * @param <E> The extent in which the rays are being cast
+ */
+public final class BlockRayBatch<E extends Extent> {
+
+    private static final Predicate<BlockState> NOT_AIR_FILTER = block -> block.getType() != BlockTypes.AIR;
+    private static final int RAY_STRIDE = 7;
+    private static final int CHUNK_CACHE_SIZE = 64;
+
+    private final E extent;
+    // The origin, normalized direction and distance limit of each ray
+    private double[] rays = new double[RAY_STRIDE * 16];
+    private int size;
+    private Predicate<BlockState> hitFilter = NOT_AIR_FILTER;
+    // A direct mapped cache of the chunks resolved during a trace, for worlds
+    private final long[] chunkKeys = new long[CHUNK_CACHE_SIZE];
+    private final Chunk[] chunks = new Chunk[CHUNK_CACHE_SIZE];
+    private final boolean[] chunkCached = new boolean[CHUNK_CACHE_SIZE];
+    private Vector3i chunkSize;
+
+    private BlockRayBatch(E extent) {
+        this.extent = extent;
+    }
+
+    /**
+     * Creates a new, empty batch of rays cast in the given extent.
+     *
+     * @param extent The extent in which to trace the rays
+     * @param <E> The extent to be applied in
+     * @return A new batch
+     */
+    public static <E extends Extent> BlockRayBatch<E> in(E extent) {
+        checkNotNull(extent, "extent");
+        return new BlockRayBatch<>(extent);
+    }
+
+    /**
+     * Gets the extent in which the rays of this batch are cast.
+     *
+     * @return The extent
+     */
+    public E getExtent() {
+        return this.extent;
+    }
+
+    /**
+     * Gets the number of rays in this batch.
+     *
+     * @return The number of rays
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Sets the filter determining which blocks stop a ray when tracing into
+     * {@link Results}. By default, every block except air stops a ray.
+     *
+     * @param hitFilter The filter accepting the blocks that are hit
+     * @return This for chained calls
+     */
+    public BlockRayBatch<E> hitFilter(Predicate<BlockState> hitFilter) {
+        this.hitFilter = checkNotNull(hitFilter, "hitFilter");
+        return this;
+    }
+
+    /**
+     * Adds a ray starting at the given origin, going in the given direction
+     * up to the given distance.
+     *
+     * @param origin The origin of the ray
+     * @param direction The direction of the ray
+     * @param distanceLimit The maximum distance traveled by the ray
+     * @return The index of the added ray
+     */
+    public int add(Vector3d origin, Vector3d direction, double distanceLimit) {
+        checkNotNull(origin, "origin");
+        checkNotNull(direction, "direction");
+        return add(origin.getX(), origin.getY(), origin.getZ(), direction.getX(), direction.getY(), direction.getZ(), distanceLimit);
+    }
+
+    /**
+     * Adds a ray going from the given start to the given end position. The
+     * ray stops at the end position.
+     *
+     * @param start The start of the ray
+     * @param end The end of the ray
+     * @return The index of the added ray
+     */
+    public int addSegment(Vector3d start, Vector3d end) {
+        checkNotNull(start, "start");
+        checkNotNull(end, "end");
+        final double dx = end.getX() - start.getX();
+        final double dy = end.getY() - start.getY();
+        final double dz = end.getZ() - start.getZ();
+        return add(start.getX(), start.getY(), start.getZ(), dx, dy, dz, Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    /**
+     * Adds a ray starting at the given origin, going in the given direction
+     * up to the given distance.
+     *
+     * @param x The x coordinate of the origin
+     * @param y The y coordinate of the origin
+     * @param z The z coordinate of the origin
+     * @param dx The x component of the direction
+     * @param dy The y component of the direction
+     * @param dz The z component of the direction
+     * @param distanceLimit The maximum distance traveled by the ray
+     * @return The index of the added ray
+     */
+    public int add(double x, double y, double z, double dx, double dy, double dz, double distanceLimit) {
+        final double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        checkArgument(length != 0, "Direction cannot be the zero vector");
+        checkArgument(distanceLimit >= 0, "Distance limit cannot be negative");
+        if ((this.size + 1) * RAY_STRIDE > this.rays.length) {
+            this.rays = Arrays.copyOf(this.rays, this.rays.length * 2);
+        }
+        final int offset = this.size * RAY_STRIDE;
+        this.rays[offset] = x;
+        this.rays[offset + 1] = y;
+        this.rays[offset + 2] = z;
+        this.rays[offset + 3] = dx / length;
+        this.rays[offset + 4] = dy / length;
+        this.rays[offset + 5] = dz / length;
+        this.rays[offset + 6] = distanceLimit;
+        return this.size++;
+    }
+
+    /**
+     * Removes all the rays of this batch.
+     *
+     * @return This for chained calls
+     */
+    public BlockRayBatch<E> clear() {
+        this.size = 0;
+        return this;
+    }
+
+    /**
+     * Traces all the rays of this batch, storing for each ray the first
+     * block accepted by the {@link #hitFilter(Predicate) hit filter} into the
+     * given results.
+     *
+     * @param results The results to store the hits into, resized if needed
+     * @return The given results
+     */
+    public Results trace(Results results) {
+        checkNotNull(results, "results");
+        results.reset(this.size);
+        final Predicate<BlockState> hitFilter = this.hitFilter;
+        trace((ray, x, y, z, face, block, distance) -> {
+            if (!hitFilter.test(block)) {
+                return true;
+            }
+            results.set(ray, x, y, z, face, distance);
+            return false;
+        });
+        return results;
+    }
+
+    /**
+     * Traces all the rays of this batch, in order, passing every traversed
+     * block to the given visitor until it stops the ray.
+     *
+     * @param visitor The visitor
+     */
+    public void trace(Visitor visitor) {
+        checkNotNull(visitor, "visitor");
+        try {
+            for (int ray = 0; ray < this.size; ray++) {
+                traceRay(ray, visitor);
+            }
+        } finally {
+            Arrays.fill(this.chunks, null);
+            Arrays.fill(this.chunkCached, false);
+        }
+    }
+
+    private void traceRay(int ray, Visitor visitor) {
+        final int offset = ray * RAY_STRIDE;
+        final double x = this.rays[offset];
+        final double y = this.rays[offset + 1];
+        final double z = this.rays[offset + 2];
+        final double dx = this.rays[offset + 3];
+        final double dy = this.rays[offset + 4];
+        final double dz = this.rays[offset + 5];
+        final double distanceLimit = this.rays[offset + 6];
+
+        int xBlock = GenericMath.floor(x);
+        int yBlock = GenericMath.floor(y);
+        int zBlock = GenericMath.floor(z);
+        final int xStep = dx > 0 ? 1 : -1;
+        final int yStep = dy > 0 ? 1 : -1;
+        final int zStep = dz > 0 ? 1 : -1;
+        // The distances needed to cross one block on each axis
+        final double xDelta = dx == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dx);
+        final double yDelta = dy == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dy);
+        final double zDelta = dz == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dz);
+        // The distances at which the next plane of each axis is crossed
+        double xNext = dx == 0 ? Double.POSITIVE_INFINITY : (dx > 0 ? xBlock + 1 - x : x - xBlock) * xDelta;
+        double yNext = dy == 0 ? Double.POSITIVE_INFINITY : (dy > 0 ? yBlock + 1 - y : y - yBlock) * yDelta;
+        double zNext = dz == 0 ? Double.POSITIVE_INFINITY : (dz > 0 ? zBlock + 1 - z : z - zBlock) * zDelta;
+
+        while (true) {
+            final double distance;
+            final Direction face;
+            if (xNext <= yNext && xNext <= zNext) {
+                distance = xNext;
+                xBlock += xStep;
+                xNext += xDelta;
+                face = xStep > 0 ? Direction.WEST : Direction.EAST;
+            } else if (yNext <= zNext) {
+                distance = yNext;
+                yBlock += yStep;
+                yNext += yDelta;
+                face = yStep > 0 ? Direction.DOWN : Direction.UP;
+            } else {
+                distance = zNext;
+                zBlock += zStep;
+                zNext += zDelta;
+                face = zStep > 0 ? Direction.NORTH : Direction.SOUTH;
+            }
+            if (distance > distanceLimit) {
+                return;
+            }
+            final BlockState block = getBlock(xBlock, yBlock, zBlock);
+            if (block == null || !visitor.visit(ray, xBlock, yBlock, zBlock, face, block, distance)) {
+                return;
+            }
+        }
+    }
+
+    private BlockState getBlock(int x, int y, int z) {
+        if (!(this.extent instanceof World)) {
+            return this.extent.containsBlock(x, y, z) ? this.extent.getBlock(x, y, z) : null;
+        }
+        if (this.chunkSize == null) {
+            this.chunkSize = Sponge.getServer().getChunkLayout().getChunkSize();
+        }
+        final int cx = Math.floorDiv(x, this.chunkSize.getX());
+        final int cy = Math.floorDiv(y, this.chunkSize.getY());
+        final int cz = Math.floorDiv(z, this.chunkSize.getZ());
+        final long key = ((long) cx & 0x3FFFFFF) << 38 | ((long) cz & 0x3FFFFFF) << 12 | (long) cy & 0xFFF;
+        final int index = (int) (key ^ key >>> 32 ^ key >>> 38) & (CHUNK_CACHE_SIZE - 1);
+        if (!this.chunkCached[index] || this.chunkKeys[index] != key) {
+            this.chunkKeys[index] = key;
+            this.chunks[index] = ((World) this.extent).getChunk(cx, cy, cz).orElse(null);
+            this.chunkCached[index] = true;
+        }
+        final Chunk chunk = this.chunks[index];
+        return chunk != null && chunk.containsBlock(x, y, z) ? chunk.getBlock(x, y, z) : null;
+    }
+
+    /**
+     * Visits the blocks traversed by the rays of a {@link BlockRayBatch}.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Visits a block traversed by a ray.
+         *
+         * @param ray The index of the ray
+         * @param x The x coordinate of the block
+         * @param y The y coordinate of the block
+         * @param z The z coordinate of the block
+         * @param face The face through which the block was entered
+         * @param block The block
+         * @param distance The distance from the origin of the ray to the
+         *     entry point in the block
+         * @return True to continue the ray, false to stop it
+         */
+        boolean visit(int ray, int x, int y, int z, Direction face, BlockState block, double distance);
+
+    }
+
+    /**
+     * The hits of the rays of a {@link BlockRayBatch}, stored in primitive
+     * arrays indexed by ray. Instances can be reused across traces.
+     */
+    public static final class Results {
+
+        private int size;
+        private boolean[] hit = new boolean[0];
+        private int[] xBlock = new int[0];
+        private int[] yBlock = new int[0];
+        private int[] zBlock = new int[0];
+        private Direction[] face = new Direction[0];
+        private double[] distance = new double[0];
+
+        void reset(int size) {
+            if (this.hit.length < size) {
+                this.hit = new boolean[size];
+                this.xBlock = new int[size];
+                this.yBlock = new int[size];
+                this.zBlock = new int[size];
+                this.face = new Direction[size];
+                this.distance = new double[size];
+            } else {
+                Arrays.fill(this.hit, 0, size, false);
+                Arrays.fill(this.face, 0, size, null);
+            }
+            this.size = size;
+        }
+
+        void set(int ray, int x, int y, int z, Direction face, double distance) {
+            this.hit[ray] = true;
+            this.xBlock[ray] = x;
+            this.yBlock[ray] = y;
+            this.zBlock[ray] = z;
+            this.face[ray] = face;
+            this.distance[ray] = distance;
+        }
+
+        /**
+         * Gets the number of rays of the last trace.
+         *
+         * @return The number of rays
+         */
+        public int size() {
+            return this.size;
+        }
+
+        /**
+         * Gets whether or not the given ray hit a block. If not, the other
+         * values for this ray are undefined.
+         *
+         * @param ray The index of the ray
+         * @return Whether or not the ray hit a block
+         */
+        public boolean isHit(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.hit[ray];
+        }
+
+        /**
+         * Gets the x coordinate of the block hit by the given ray.
+         *
+         * @param ray The index of the ray
+         * @return The x coordinate
+         */
+        public int getBlockX(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.xBlock[ray];
+        }
+
+        /**
+         * Gets the y coordinate of the block hit by the given ray.
+         *
+         * @param ray The index of the ray
+         * @return The y coordinate
+         */
+        public int getBlockY(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.yBlock[ray];
+        }
+
+        /**
+         * Gets the z coordinate of the block hit by the given ray.
+         *
+         * @param ray The index of the ray
+         * @return The z coordinate
+         */
+        public int getBlockZ(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.zBlock[ray];
+        }
+
+        /**
+         * Gets the face through which the given ray entered the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The entered face
+         */
+        public Direction getFace(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.face[ray];
+        }
+
+        /**
+         * Gets the distance from the origin of the given ray to its entry
+         * point in the hit block.
+         *
+         * @param ray The index of the ray
+         * @return The distance
+         */
+        public double getDistance(int ray) {
+            checkElementIndex(ray, this.size, "ray");
+            return this.distance[ray];
+        }
+
+    }
+
+}
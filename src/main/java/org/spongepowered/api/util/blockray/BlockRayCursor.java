@@ -0,0 +1,210 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.world.extent.Extent;
+
+/**
+ * A mutable view of the current position of a {@link BlockRay}. A ray owns a
+ * single cursor which is updated in place on every step, so inspecting the
+ * traversed blocks through it does not create any object.
+ *
+ * <p>The values of a cursor are only valid until the ray is advanced again.
+ * Use {@link #toHit()} to keep a snapshot of the current position.</p>
+ *
+ * @param <E> The extent in which the ray is being cast
+ * @see BlockRay#advanceCursor()
+ */
+public final class BlockRayCursor<E extends Extent> {
+
+    private final E extent;
+    private final Vector3d origin;
+    private final Vector3d direction;
+    private double x;
+    private double y;
+    private double z;
+    private int xBlock;
+    private int yBlock;
+    private int zBlock;
+    private Vector3d normal = Vector3d.ZERO;
+
+    BlockRayCursor(E extent, Vector3d origin, Vector3d direction) {
+        this.extent = extent;
+        this.origin = origin;
+        this.direction = direction;
+    }
+
+    void set(double x, double y, double z, Vector3d normal) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.normal = normal;
+        this.xBlock = BlockRayHit.toBlockCoordinate(x, normal.getX());
+        this.yBlock = BlockRayHit.toBlockCoordinate(y, normal.getY());
+        this.zBlock = BlockRayHit.toBlockCoordinate(z, normal.getZ());
+    }
+
+    void set(BlockRayCursor<E> other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.z = other.z;
+        this.normal = other.normal;
+        this.xBlock = other.xBlock;
+        this.yBlock = other.yBlock;
+        this.zBlock = other.zBlock;
+    }
+
+    /**
+     * Returns the extent that contains the block.
+     *
+     * @return The extent
+     */
+    public E getExtent() {
+        return this.extent;
+    }
+
+    /**
+     * Returns the x coordinate of the intersection.
+     *
+     * @return The x coordinate
+     */
+    public double getX() {
+        return this.x;
+    }
+
+    /**
+     * Returns the y coordinate of the intersection.
+     *
+     * @return The y coordinate
+     */
+    public double getY() {
+        return this.y;
+    }
+
+    /**
+     * Returns the z coordinate of the intersection.
+     *
+     * @return The z coordinate
+     */
+    public double getZ() {
+        return this.z;
+    }
+
+    /**
+     * Returns the x coordinate of the block that was hit.
+     *
+     * @return The x coordinate
+     */
+    public int getBlockX() {
+        return this.xBlock;
+    }
+
+    /**
+     * Returns the y coordinate of the block that was hit.
+     *
+     * @return The y coordinate
+     */
+    public int getBlockY() {
+        return this.yBlock;
+    }
+
+    /**
+     * Returns the z coordinate of the block that was hit.
+     *
+     * @return The z coordinate
+     */
+    public int getBlockZ() {
+        return this.zBlock;
+    }
+
+    /**
+     * Returns the x component of the normal of the entered face, edge or
+     * corner.
+     *
+     * @return The x component of the normal
+     */
+    public double getNormalX() {
+        return this.normal.getX();
+    }
+
+    /**
+     * Returns the y component of the normal of the entered face, edge or
+     * corner.
+     *
+     * @return The y component of the normal
+     */
+    public double getNormalY() {
+        return this.normal.getY();
+    }
+
+    /**
+     * Returns the z component of the normal of the entered face, edge or
+     * corner.
+     *
+     * @return The z component of the normal
+     */
+    public double getNormalZ() {
+        return this.normal.getZ();
+    }
+
+    /**
+     * Returns the squared distance from the start of the ray to the
+     * intersection.
+     *
+     * @return The squared distance
+     */
+    public double getDistanceSquared() {
+        final double dx = this.x - this.origin.getX();
+        final double dy = this.y - this.origin.getY();
+        final double dz = this.z - this.origin.getZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns the distance from the start of the ray to the intersection.
+     *
+     * @return The distance
+     */
+    public double getDistance() {
+        return Math.sqrt(getDistanceSquared());
+    }
+
+    /**
+     * Creates a {@link BlockRayHit} holding the current values of this
+     * cursor.
+     *
+     * @return The block ray hit
+     */
+    public BlockRayHit<E> toHit() {
+        return new BlockRayHit<>(this.extent, this.x, this.y, this.z, this.direction, this.normal);
+    }
+
+    @Override
+    public String toString() {
+        return "BlockRayCursor{(" + this.x + ", " + this.y + ", " + this.z + ") in " + this.extent + "}";
+    }
+
+}
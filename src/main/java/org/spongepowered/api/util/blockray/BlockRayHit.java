@@ -73,24 +73,18 @@ public BlockRayHit(E extent, double x, double y, double z, Vector3d direction, V
         this.z = z;
         this.direction = direction;
         this.normal = normal;
+        this.xBlock = toBlockCoordinate(x, normal.getX());
+        this.yBlock = toBlockCoordinate(y, normal.getY());
+        this.zBlock = toBlockCoordinate(z, normal.getZ());
+    }
+
+    static int toBlockCoordinate(double coordinate, double normal) {
         // Take into account the face through which we entered
         // so we know which block is the correct one
-        if (x % 1 == 0 && normal.getX() > 0) {
-            this.xBlock = (int) x - 1;
-        } else {
-            this.xBlock = GenericMath.floor(x);
-        }
-        if (y % 1 == 0 && normal.getY() > 0) {
-            this.yBlock = (int) y - 1;
-        } else {
-            //noinspection SuspiciousNameCombination
-            this.yBlock = GenericMath.floor(y);
-        }
-        if (z % 1 == 0 && normal.getZ() > 0) {
-            this.zBlock = (int) z - 1;
-        } else {
-            this.zBlock = GenericMath.floor(z);
+        if (coordinate % 1 == 0 && normal > 0) {
+            return (int) coordinate - 1;
         }
+        return GenericMath.floor(coordinate);
     }
 
     /**
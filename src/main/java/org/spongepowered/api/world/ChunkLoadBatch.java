@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import com.flowpowered.math.vector.Vector3i;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A handle on a batch of chunks being loaded asynchronously, obtained from
+ * {@link World#loadChunksAsync(Collection, boolean, ChunkLoadPriority)}.
+ */
+public interface ChunkLoadBatch {
+
+    /**
+     * Gets the world in which the chunks are loaded.
+     *
+     * @return The world
+     */
+    World getWorld();
+
+    /**
+     * Gets the futures of all the chunks of this batch, keyed by their chunk
+     * coordinates, in the order the chunks are loaded.
+     *
+     * @return The chunk futures
+     */
+    Map<Vector3i, CompletableFuture<Optional<Chunk>>> getChunkFutures();
+
+    /**
+     * Gets the future of the chunk at the given chunk coordinates.
+     *
+     * @param chunkPosition The chunk coordinates
+     * @return The chunk future, if the chunk is part of this batch
+     */
+    default Optional<CompletableFuture<Optional<Chunk>>> getChunkFuture(Vector3i chunkPosition) {
+        return Optional.ofNullable(getChunkFutures().get(chunkPosition));
+    }
+
+    /**
+     * Gets a future completed once every chunk of this batch has been loaded.
+     * It is completed exceptionally if any chunk failed to load or if the
+     * batch was cancelled.
+     *
+     * @return The completion future
+     */
+    CompletableFuture<Void> getCompletionFuture();
+
+    /**
+     * Gets the number of chunks of this batch which are not loaded yet.
+     *
+     * @return The number of remaining chunks
+     */
+    int getRemaining();
+
+    /**
+     * Cancels the loading of the chunks of this batch which have not started
+     * loading yet. Their futures are cancelled, the chunks which are already
+     * being loaded are not affected.
+     */
+    void cancel();
+
+}
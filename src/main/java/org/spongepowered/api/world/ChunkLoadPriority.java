@@ -0,0 +1,57 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import java.util.Collection;
+
+/**
+ * The priority of chunks loaded with
+ * {@link World#loadChunksAsync(Collection, boolean, ChunkLoadPriority)},
+ * relative to the other chunk loads of the server.
+ *
+ * <p>The priority is a hint, implementations which do not queue their chunk
+ * loads may ignore it.</p>
+ */
+public enum ChunkLoadPriority {
+
+    /**
+     * Chunks which are only loaded ahead of time and are not needed soon,
+     * these loads yield to any other load.
+     */
+    LOW,
+
+    /**
+     * The default priority, ordered alongside the chunks loaded by the
+     * server itself.
+     */
+    NORMAL,
+
+    /**
+     * Chunks which are needed as soon as possible, for example the
+     * destination of a pending teleport.
+     */
+    HIGH
+
+}
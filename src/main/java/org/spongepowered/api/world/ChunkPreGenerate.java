@@ -27,6 +27,7 @@
 import com.flowpowered.math.vector.Vector3d;
 import org.slf4j.Logger;
 import org.spongepowered.api.Game;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.event.world.ChunkPreGenerationEvent;
 import org.spongepowered.api.scheduler.Scheduler;
 import org.spongepowered.api.util.ResettableBuilder;
@@ -42,6 +43,13 @@
  */
 public interface ChunkPreGenerate {
 
+    /**
+     * The path of the {@link WorldProperties#getPropertySection(DataQuery)
+     * property section} in which the progress of a pre-generation is stored
+     * when {@link Builder#persistProgress(boolean)} is enabled.
+     */
+    DataQuery PROGRESS_SECTION = DataQuery.of("SpongeChunkPreGenerate");
+
     /**
      * The {@link WorldProperties} of the world that this task is operating on.
      *
@@ -81,6 +89,27 @@ public interface ChunkPreGenerate {
      */
     Duration getTotalTime();
 
+    /**
+     * Gets the number of chunks that are currently generated per tick. When
+     * the generation is {@link Builder#targetTickTime(Duration) adaptive}
+     * this value is continuously tuned from the measured tick time.
+     *
+     * <p>Returns 0 if the generation is only bound by
+     * {@link Builder#tickPercentLimit(float)}.</p>
+     *
+     * @return The current number of chunks per tick
+     */
+    int getChunksPerTick();
+
+    /**
+     * Gets whether this generation continued from progress that was
+     * persisted by a previous, unfinished generation.
+     *
+     * @return True if resumed
+     * @see Builder#persistProgress(boolean)
+     */
+    boolean isResumed();
+
     /**
      * Gets whether the task for this world has been cancelled
      * (or completed).
@@ -176,6 +205,65 @@ interface Builder extends ResettableBuilder<ChunkPreGenerate, Builder> {
          */
         Builder tickPercentLimit(float tickPercent);
 
+        /**
+         * Enables the adaptive mode, in which the number of chunks generated
+         * per tick is tuned after every run so that the measured duration of
+         * a whole server tick stays close to the given target. The tick rate
+         * is preferred over generation speed, the number of chunks is lowered
+         * as soon as the server lags behind and slowly raised again while it
+         * keeps up.
+         *
+         * <p>{@link #chunksPerTick(int)}, if enabled, is used as the upper
+         * bound of the tuned value and {@link #tickPercentLimit(float)} still
+         * applies to every single run.</p>
+         *
+         * <p>Use {@code null} to disable.</p>
+         *
+         * <p>Optional.</p>
+         *
+         * <p>Default is disabled.</p>
+         *
+         * @param tickTime The target duration of a server tick
+         * @return This for chained calls
+         */
+        Builder targetTickTime(@Nullable Duration tickTime);
+
+        /**
+         * Sets whether the expensive parts of chunk generation, such as
+         * terrain generation, lighting and saving, may be offloaded to worker
+         * threads. Chunk population and anything else that touches the state
+         * of the world is still performed on the main thread.
+         *
+         * <p>This is a hint, implementations that do not support off-thread
+         * generation will generate every chunk on the main thread.</p>
+         *
+         * <p>Optional.</p>
+         *
+         * <p>Default is false.</p>
+         *
+         * @param parallel Whether generation may use worker threads
+         * @return This for chained calls
+         */
+        Builder parallelGeneration(boolean parallel);
+
+        /**
+         * Sets whether the progress of the generation is periodically stored
+         * in the {@link WorldProperties} under {@link #PROGRESS_SECTION}. When
+         * enabled and unfinished progress of a generation with the same
+         * center and diameter is found on {@link #start()}, the generation
+         * continues from there instead of starting over, for example after a
+         * server restart. The progress is removed once the generation
+         * completes.
+         *
+         * <p>Optional.</p>
+         *
+         * <p>Default is false.</p>
+         *
+         * @param persist Whether the progress should be persisted
+         * @return This for chained calls
+         */
+        Builder persistProgress(boolean persist);
+
         /**
          * Adds a {@link ChunkPreGenerationEvent} listener callback that will be
          * called for this, and only this, pre-generation routine. Note that
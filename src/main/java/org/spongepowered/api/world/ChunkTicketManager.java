@@ -24,18 +24,29 @@
  */
 package org.spongepowered.api.world;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.ListMultimap;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.LongObjectMap;
+import org.spongepowered.api.util.LongSet;
+import org.spongepowered.api.world.storage.ChunkLayout;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A manager of chunks. Chunks can be managed via tickets that may represent
@@ -70,6 +81,37 @@ public interface ChunkTicketManager {
      */
     Optional<LoadingTicket> createTicket(Object plugin, World world);
 
+    /**
+     * Attempts to create a new loading ticket for a plugin to load chunks in a
+     * world, which is automatically {@link LoadingTicket#release() released}
+     * once the given time to live has passed.
+     *
+     * <p>The ticket may be released earlier by the plugin, in which case the
+     * automatic release has no effect. The same applies if the world of the
+     * ticket has been unloaded by then.</p>
+     *
+     * @param plugin Plugin that wants to load chunks
+     * @param world World that chunks will be loaded in
+     * @param timeToLive The time after which the ticket is released
+     * @return The new LoadingTicket, or Optional.empty() if a ticket could not
+     *         be created
+     */
+    default Optional<LoadingTicket> createTicket(Object plugin, World world, Duration timeToLive) {
+        checkNotNull(timeToLive, "timeToLive");
+        checkArgument(!timeToLive.isNegative(), "timeToLive cannot be negative");
+        final Optional<LoadingTicket> ticket = createTicket(plugin, world);
+        ticket.ifPresent(t -> Task.builder()
+                .delay(timeToLive.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> {
+                    if (!t.isReleased() && t.getWorld().isLoaded()) {
+                        t.release();
+                    }
+                })
+                .name("ChunkTicketManager - release ticket of " + t.getPlugin())
+                .submit(plugin));
+        return ticket;
+    }
+
     /**
      * Attempts to create a new loading ticket for a plugin to load chunks in a
      * world.
@@ -123,6 +165,26 @@ public interface ChunkTicketManager {
      */
     Optional<PlayerEntityLoadingTicket> createPlayerEntityTicket(Object plugin, World world, UUID player);
 
+    /**
+     * Attempts to create a new loading ticket for a plugin which loads the
+     * chunks ahead of an entity along its motion, so that the chunks are
+     * already available once the entity reaches them. This is intended for
+     * fast travelling entities, for instance minecarts or players flying
+     * with an elytra.
+     *
+     * <p>The returned ticket is bound to the given entity and lives in the
+     * world of the entity.</p>
+     *
+     * <p>Plugins can be limited in the number of tickets they can create per
+     * world.</p>
+     *
+     * @param plugin Plugin that wants to load chunks
+     * @param entity The entity to prefetch chunks for
+     * @return The new PrefetchLoadingTicket, or Optional.empty() if a ticket
+     *         could not be created
+     */
+    Optional<PrefetchLoadingTicket> createPrefetchTicket(Object plugin, Entity entity);
+
     /**
      * Gets the maximum allowed per-world tickets for a plugin.
      *
@@ -159,6 +221,29 @@ public interface ChunkTicketManager {
      */
     ImmutableSetMultimap<Vector3i, LoadingTicket> getForcedChunks(World world);
 
+    /**
+     * Gets the currently force-loaded chunks in a world, keyed by their chunk
+     * coordinates packed with {@link ChunkLayout#packChunkPosition(int, int,
+     * int)}.
+     *
+     * <p>The returned map is a new instance owned by the caller.</p>
+     *
+     * <p>The default implementation converts the result of
+     * {@link #getForcedChunks(World)}, so it allocates more than that method.
+     * Implementations must override it to avoid the boxed positions.</p>
+     *
+     * @param world The world to get force-loaded chunks from
+     * @return The packed coordinates of all force-loaded chunks, mapped to
+     *         the tickets that are loading those chunks
+     */
+    default LongObjectMap<Set<LoadingTicket>> getPackedForcedChunks(World world) {
+        final ChunkLayout layout = Sponge.getServer().getChunkLayout();
+        final ImmutableSetMultimap<Vector3i, LoadingTicket> forcedChunks = getForcedChunks(world);
+        final LongObjectMap<Set<LoadingTicket>> packed = new LongObjectMap<>(forcedChunks.keySet().size());
+        forcedChunks.keySet().forEach(chunk -> packed.put(layout.packChunkPosition(chunk), forcedChunks.get(chunk)));
+        return packed;
+    }
+
     /**
      * Represents a handle which allows you to force a set of chunks to remain
      * loaded.
@@ -238,6 +323,28 @@ interface LoadingTicket {
          */
         ImmutableSet<Vector3i> getChunkList();
 
+        /**
+         * Gets the chunks that are being force-loaded by this ticket, packed
+         * with {@link ChunkLayout#packChunkPosition(int, int, int)}.
+         *
+         * <p>The returned set is a new instance owned by the caller.</p>
+         *
+         * <p>The default implementation converts the result of
+         * {@link #getChunkList()}, so it allocates more than that method.
+         * Implementations must override it to avoid the boxed positions.</p>
+         *
+         * @return The packed coordinates of the force-loaded chunks
+         */
+        default LongSet getPackedChunkList() {
+            final ChunkLayout layout = Sponge.getServer().getChunkLayout();
+            final ImmutableSet<Vector3i> chunks = getChunkList();
+            final LongSet packed = new LongSet(chunks.size());
+            for (Vector3i chunk : chunks) {
+                packed.add(layout.packChunkPosition(chunk));
+            }
+            return packed;
+        }
+
         /**
          * Force-loads a chunk using this ticket. If the configured concurrently
          * loaded chunk limit is reached, the oldest loaded chunk will be
@@ -267,6 +374,74 @@ interface LoadingTicket {
          */
         void prioritizeChunk(Vector3i chunk);
 
+        /**
+         * Force-loads all the chunks within a square radius around the given
+         * center chunk using this ticket. The chunks are forced from the
+         * outside in, making the chunks closest to the center the 'newest'
+         * loaded chunks and the last to be removed when the concurrently
+         * loaded chunk limit is reached.
+         *
+         * <p>A radius of 0 only forces the center chunk. Only chunks in the
+         * same vertical layer as the center are forced.</p>
+         *
+         * @param center The center chunk
+         * @param radius The radius in chunks, 0 or greater
+         */
+        default void forceChunkRadius(Vector3i center, int radius) {
+            checkNotNull(center, "center");
+            checkArgument(radius >= 0, "radius cannot be negative: %s", radius);
+            for (int r = radius; r >= 0; r--) {
+                for (int x = -r; x <= r; x++) {
+                    for (int z = -r; z <= r; z++) {
+                        if (Math.abs(x) == r || Math.abs(z) == r) {
+                            forceChunk(center.add(x, 0, z));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Force-loads all the chunks in the region between the given chunk
+         * coordinates (inclusive) using this ticket.
+         *
+         * <p>If the region contains more chunks than
+         * {@link #getNumChunks()}, only the last forced chunks will remain
+         * loaded, see {@link #forceChunk(Vector3i)}.</p>
+         *
+         * @param min The minimum chunk coordinates
+         * @param max The maximum chunk coordinates
+         */
+        default void forceChunkRegion(Vector3i min, Vector3i max) {
+            checkNotNull(min, "min");
+            checkNotNull(max, "max");
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int y = min.getY(); y <= max.getY(); y++) {
+                    for (int z = min.getZ(); z <= max.getZ(); z++) {
+                        forceChunk(new Vector3i(x, y, z));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Removes all the chunks in the region between the given chunk
+         * coordinates (inclusive) from the force-loaded set of this ticket.
+         *
+         * @param min The minimum chunk coordinates
+         * @param max The maximum chunk coordinates
+         */
+        default void unforceChunkRegion(Vector3i min, Vector3i max) {
+            checkNotNull(min, "min");
+            checkNotNull(max, "max");
+            for (Vector3i chunk : getChunkList()) {
+                if (chunk.getX() >= min.getX() && chunk.getY() >= min.getY() && chunk.getZ() >= min.getZ()
+                        && chunk.getX() <= max.getX() && chunk.getY() <= max.getY() && chunk.getZ() <= max.getZ()) {
+                    unforceChunk(chunk);
+                }
+            }
+        }
+
         /**
          * Releases this ticket, removing all associated chunks and freeing up
          * the ticket slot for later use by a new ticket.
@@ -275,6 +450,13 @@ interface LoadingTicket {
          * force-load chunks.</p>
          */
         void release();
+
+        /**
+         * Gets whether this ticket has been {@link #release() released}.
+         *
+         * @return True if this ticket is released and can no longer be used
+         */
+        boolean isReleased();
     }
 
     /**
@@ -312,6 +494,61 @@ interface EntityLoadingTicket extends LoadingTicket {
         Entity getBoundEntity();
     }
 
+    /**
+     * Represents a loading ticket which loads the chunks ahead of its bound
+     * entity.
+     *
+     * <p>Every tick the position of the bound entity is projected along its
+     * velocity for the configured number of look ahead ticks. The chunks the
+     * entity will pass through, and the chunks within the configured radius
+     * around them, are forced. The chunks the entity will reach first are
+     * prioritized and chunks that the entity has left behind are unforced.
+     * The ticket is released once the bound entity is removed.</p>
+     *
+     * <p>The number of chunks that can be prefetched is still limited by
+     * {@link #getNumChunks()}.</p>
+     *
+     * @see ChunkTicketManager#createPrefetchTicket(Object, Entity)
+     */
+    interface PrefetchLoadingTicket extends EntityLoadingTicket {
+
+        /**
+         * Gets the number of ticks the motion of the bound entity is looked
+         * ahead to determine which chunks to load.
+         *
+         * @return The number of look ahead ticks
+         */
+        int getLookAheadTicks();
+
+        /**
+         * Sets the number of ticks the motion of the bound entity is looked
+         * ahead to determine which chunks to load.
+         *
+         * <p>Default is 40 ticks.</p>
+         *
+         * @param ticks The number of look ahead ticks, greater than 0
+         */
+        void setLookAheadTicks(int ticks);
+
+        /**
+         * Gets the radius in chunks that is loaded around every chunk along
+         * the projected path of the bound entity.
+         *
+         * @return The radius in chunks
+         */
+        int getRadius();
+
+        /**
+         * Sets the radius in chunks that is loaded around every chunk along
+         * the projected path of the bound entity.
+         *
+         * <p>Default is 1.</p>
+         *
+         * @param radius The radius in chunks, 0 or greater
+         */
+        void setRadius(int radius);
+    }
+
     /**
      * Represents a loading ticket which is attached to a player entity.
      */
@@ -31,6 +31,7 @@
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.Objects;
+import com.google.common.collect.MapMaker;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
@@ -65,6 +66,7 @@
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -89,6 +91,9 @@
  */
 public final class Location<E extends Extent> implements DataHolder {
 
+    // A single reference is shared by all the locations of an extent
+    private static final ConcurrentMap<Extent, WeakReference<Extent>> EXTENT_REFERENCES = new MapMaker().weakKeys().makeMap();
+
     private final WeakReference<E> extent;
     // Lazily computed, either position or blockPosition is set by the constructor
     @Nullable
@@ -107,8 +112,7 @@
      * @param position The position
      */
     public Location(E extent, Vector3d position) {
-        this.extent = new WeakReference<>(checkNotNull(extent, "extent"));
-        this.position = checkNotNull(position, "position");
+        this(getReference(checkNotNull(extent, "extent")), position);
     }
 
     /**
@@ -130,8 +134,7 @@ public Location(E extent, double x, double y, double z) {
      * @param blockPosition The position
      */
     public Location(E extent, Vector3i blockPosition) {
-        this.extent = new WeakReference<>(checkNotNull(extent, "extent"));
-        this.blockPosition = checkNotNull(blockPosition, "blockPosition");
+        this(getReference(checkNotNull(extent, "extent")), blockPosition);
     }
 
     /**
@@ -146,6 +149,21 @@ public Location(E extent, int x, int y, int z) {
         this(extent, new Vector3i(x, y, z));
     }
 
+    private Location(WeakReference<E> extent, Vector3d position) {
+        this.extent = extent;
+        this.position = checkNotNull(position, "position");
+    }
+
+    private Location(WeakReference<E> extent, Vector3i blockPosition) {
+        this.extent = extent;
+        this.blockPosition = checkNotNull(blockPosition, "blockPosition");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Extent> WeakReference<E> getReference(E extent) {
+        return (WeakReference<E>) EXTENT_REFERENCES.computeIfAbsent(extent, WeakReference::new);
+    }
+
     /**
      * Gets the underlying extent.
      *
@@ -163,6 +181,18 @@ public E getExtent() {
         return currentExtent;
     }
 
+    /**
+     * Gets the reference to the extent for a derived location, failing like
+     * {@link #getExtent()} if the extent is no longer available.
+     *
+     * @return The reference to the extent
+     * @throws IllegalStateException If the {@link Extent} is null
+     */
+    private WeakReference<E> getExtentReference() {
+        getExtent();
+        return this.extent;
+    }
+
     /**
      * Gets the underlying position.
      *
@@ -342,7 +372,7 @@ public Location<E> setPosition(Vector3d position) {
         if (position == getPosition()) {
             return this;
         }
-        return new Location<>(getExtent(), position);
+        return new Location<>(getExtentReference(), position);
     }
 
     /**
@@ -356,7 +386,7 @@ public Location<E> setBlockPosition(Vector3i position) {
         if (position == getBlockPosition()) {
             return this;
         }
-        return new Location<>(getExtent(), position);
+        return new Location<>(getExtentReference(), position);
     }
 
     /**
@@ -884,7 +914,7 @@ public <T, V extends BaseValue<T>> Optional<V> getValue(Key<V> key) {
 
     @Override
     public Location<E> copy() {
-        return new Location<>(getExtent(), getPosition());
+        return new Location<>(getExtentReference(), getPosition());
     }
 
     @Override
@@ -0,0 +1,179 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import com.flowpowered.math.vector.Vector3i;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChunkLoadBatch} loading its chunks through
+ * {@link World#loadChunkAsync(Vector3i, boolean)}, nearest to the center of
+ * the batch first, with a limited number of chunks loading at once.
+ */
+final class SimpleChunkLoadBatch implements ChunkLoadBatch {
+
+    private final World world;
+    private final boolean generate;
+    private final int maxConcurrentLoads;
+    private final Vector3i[] order;
+    private final Map<Vector3i, CompletableFuture<Optional<Chunk>>> futures;
+    private final CompletableFuture<Void> completion;
+    // Lets one thread start loads at a time, without recursing on sync loads
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private int next;
+    private int loading;
+    private boolean cancelled;
+
+    SimpleChunkLoadBatch(World world, Collection<Vector3i> chunkPositions, boolean generate, int maxConcurrentLoads) {
+        this.world = world;
+        this.generate = generate;
+        this.maxConcurrentLoads = maxConcurrentLoads;
+        this.order = new LinkedHashSet<>(chunkPositions).toArray(new Vector3i[0]);
+        if (this.order.length > 0) {
+            // Load in rings around the center, grouped by region file in a ring
+            final Vector3i center = getCenter(this.order);
+            Arrays.sort(this.order, Comparator.comparingInt((Vector3i position) -> chebyshevDistance(position, center))
+                    .thenComparingInt(position -> position.getX() >> 5)
+                    .thenComparingInt(position -> position.getZ() >> 5));
+        }
+        this.futures = new LinkedHashMap<>();
+        for (Vector3i position : this.order) {
+            this.futures.put(position, new CompletableFuture<>());
+        }
+        this.completion = CompletableFuture.allOf(this.futures.values().toArray(new CompletableFuture<?>[0]));
+        this.remaining = new AtomicInteger(this.order.length);
+    }
+
+    private static Vector3i getCenter(Vector3i[] positions) {
+        Vector3i min = positions[0];
+        Vector3i max = positions[0];
+        for (Vector3i position : positions) {
+            min = min.min(position);
+            max = max.max(position);
+        }
+        return min.add(max).div(2);
+    }
+
+    private static int chebyshevDistance(Vector3i first, Vector3i second) {
+        return Math.max(Math.abs(first.getX() - second.getX()), Math.max(Math.abs(first.getY() - second.getY()),
+                Math.abs(first.getZ() - second.getZ())));
+    }
+
+    void start() {
+        drain();
+    }
+
+    private void drain() {
+        if (this.drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            Vector3i position;
+            while ((position = poll()) != null) {
+                final CompletableFuture<Optional<Chunk>> future = this.futures.get(position);
+                final CompletableFuture<Optional<Chunk>> load;
+                try {
+                    load = this.world.loadChunkAsync(position, this.generate);
+                } catch (RuntimeException e) {
+                    // The default loadChunkAsync loads synchronously
+                    onLoaded(future, null, e);
+                    continue;
+                }
+                load.whenComplete((chunk, throwable) -> onLoaded(future, chunk, throwable));
+            }
+        } while (this.drainRequests.decrementAndGet() != 0);
+    }
+
+    private void onLoaded(CompletableFuture<Optional<Chunk>> future, @Nullable Optional<Chunk> chunk, @Nullable Throwable throwable) {
+        synchronized (this) {
+            this.loading--;
+        }
+        this.remaining.decrementAndGet();
+        if (throwable != null) {
+            future.completeExceptionally(throwable);
+        } else {
+            future.complete(chunk);
+        }
+        drain();
+    }
+
+    private synchronized Vector3i poll() {
+        if (this.cancelled || this.next >= this.order.length || this.loading >= this.maxConcurrentLoads) {
+            return null;
+        }
+        this.loading++;
+        return this.order[this.next++];
+    }
+
+    @Override
+    public World getWorld() {
+        return this.world;
+    }
+
+    @Override
+    public Map<Vector3i, CompletableFuture<Optional<Chunk>>> getChunkFutures() {
+        return Collections.unmodifiableMap(this.futures);
+    }
+
+    @Override
+    public CompletableFuture<Void> getCompletionFuture() {
+        return this.completion;
+    }
+
+    @Override
+    public int getRemaining() {
+        return this.remaining.get();
+    }
+
+    @Override
+    public void cancel() {
+        final int start;
+        synchronized (this) {
+            if (this.cancelled) {
+                return;
+            }
+            this.cancelled = true;
+            start = this.next;
+        }
+        for (int i = start; i < this.order.length; i++) {
+            this.futures.get(this.order[i]).cancel(false);
+            this.remaining.decrementAndGet();
+        }
+    }
+
+}
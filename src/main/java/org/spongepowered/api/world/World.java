@@ -24,6 +24,9 @@
  */
 package org.spongepowered.api.world;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.Sponge;
@@ -221,6 +224,56 @@ default CompletableFuture<Optional<Chunk>> loadChunkAsync(int cx, int cy, int cz
         return CompletableFuture.completedFuture(loadChunk(cx, cy, cz, shouldGenerate));
     }
 
+    /**
+     * Loads the chunks at the given chunk coordinate positions asynchronously,
+     * generating them if {@code shouldGenerate} is true.
+     *
+     * <p>The chunks are loaded nearest to the center of the given positions
+     * first, keeping successive loads within the same region files, and only
+     * a limited number of chunks are loaded at once so the loading does not
+     * flood the storage thread. The returned {@link ChunkLoadBatch} exposes a
+     * future for each chunk and for the completion of the whole batch.</p>
+     *
+     * <p>The priority is a hint for implementations which queue chunk loads.
+     * The default implementation ignores it, and starts its loads through
+     * {@link #loadChunkAsync(int, int, int, boolean)} like any other.</p>
+     *
+     * @param chunkPositions The chunk positions
+     * @param shouldGenerate True to generate new chunks
+     * @param priority The priority of the loads relative to the other chunk
+     *     loads of the server, if supported
+     * @return The handle on the loading chunks
+     */
+    default ChunkLoadBatch loadChunksAsync(Collection<Vector3i> chunkPositions, boolean shouldGenerate, ChunkLoadPriority priority) {
+        return loadChunksAsync(chunkPositions, shouldGenerate, priority, 16);
+    }
+
+    /**
+     * Loads the chunks at the given chunk coordinate positions asynchronously,
+     * generating them if {@code shouldGenerate} is true, loading at most
+     * {@code maxConcurrentLoads} chunks at once.
+     *
+     * <p>The default implementation ignores the priority, see
+     * {@link #loadChunksAsync(Collection, boolean, ChunkLoadPriority)}.</p>
+     *
+     * @param chunkPositions The chunk positions
+     * @param shouldGenerate True to generate new chunks
+     * @param priority The priority of the loads relative to the other chunk
+     *     loads of the server, if supported
+     * @param maxConcurrentLoads The maximum number of chunks loading at once
+     * @return The handle on the loading chunks
+     * @see #loadChunksAsync(Collection, boolean, ChunkLoadPriority)
+     */
+    default ChunkLoadBatch loadChunksAsync(Collection<Vector3i> chunkPositions, boolean shouldGenerate, ChunkLoadPriority priority,
+            int maxConcurrentLoads) {
+        checkNotNull(chunkPositions, "chunkPositions");
+        checkNotNull(priority, "priority");
+        checkArgument(maxConcurrentLoads > 0, "maxConcurrentLoads must be > 0");
+        final SimpleChunkLoadBatch batch = new SimpleChunkLoadBatch(this, chunkPositions, shouldGenerate, maxConcurrentLoads);
+        batch.start();
+        return batch;
+    }
+
     /**
      * Regenerates a chunk at the given chunk coordinate position.
      * 
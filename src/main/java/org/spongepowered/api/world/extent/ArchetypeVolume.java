@@ -28,12 +28,15 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ListMultimap;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.tileentity.TileEntityArchetype;
 import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.util.LongObjectMap;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.extent.worker.MutableBlockVolumeWorker;
+import org.spongepowered.api.world.storage.ChunkLayout;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -86,6 +89,28 @@ default Optional<TileEntityArchetype> getTileEntityArchetype(Vector3i position)
      */
     Map<Vector3i, TileEntityArchetype> getTileEntityArchetypes();
 
+    /**
+     * Gets a map containing all tile entity archetypes within this volume,
+     * keyed by their positions within the volume packed with
+     * {@link ChunkLayout#packBlockPosition(int, int, int)}.
+     *
+     * <p>The returned map is a new instance owned by the caller.</p>
+     *
+     * <p>The default implementation converts the result of
+     * {@link #getTileEntityArchetypes()}, so it allocates more than that
+     * method. Implementations must override it to avoid the boxed
+     * positions.</p>
+     *
+     * @return The tile entity map
+     */
+    default LongObjectMap<TileEntityArchetype> getPackedTileEntityArchetypes() {
+        final ChunkLayout layout = Sponge.getServer().getChunkLayout();
+        final Map<Vector3i, TileEntityArchetype> archetypes = getTileEntityArchetypes();
+        final LongObjectMap<TileEntityArchetype> packed = new LongObjectMap<>(archetypes.size());
+        archetypes.forEach((position, archetype) -> packed.put(layout.packBlockPosition(position), archetype));
+        return packed;
+    }
+
     default Optional<EntityArchetype> getEntityArchetype(double x, double y, double z) {
         return Optional.empty();
     }
@@ -0,0 +1,168 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.util.LongSet;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.api.world.storage.ChunkLayout;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+
+/**
+ * A journal of the block changes in an {@link Extent}, which allows the
+ * changes since a point in time to be extracted without listening to every
+ * {@link ChangeBlockEvent} or rescanning whole chunks. This is intended for
+ * incremental backups, map renderers and other tools that only need to
+ * process what changed.
+ *
+ * <p>Every block change increments the sequence number of the journal. A
+ * caller remembers the {@link #getSequenceNumber() current sequence number}
+ * and later asks for the changes made since then. The journal of a world
+ * and the journals of its chunks share the same sequence numbers.</p>
+ *
+ * <p>Journals are kept in memory and may be truncated, for instance when a
+ * chunk is unloaded or too many changes were recorded. Changes older than
+ * {@link #getOldestSequenceNumber()} are no longer available, callers that
+ * fall behind have to process the extent in full instead.</p>
+ *
+ * <p>Chunks are divided into sections of {@link #getSectionHeight()} blocks
+ * high, the dirty sections of a chunk are reported as a bitmap in which bit
+ * {@code n} represents the section that starts {@code n * sectionHeight}
+ * blocks above the bottom of the chunk.</p>
+ *
+ * @see Extent#getChangeJournal()
+ */
+public interface ChangeJournal {
+
+    /**
+     * Gets the current sequence number of this journal. Only changes made
+     * after this point are reported when this number is passed as the
+     * {@code since} argument of the other methods.
+     *
+     * @return The current sequence number
+     */
+    long getSequenceNumber();
+
+    /**
+     * Gets the oldest sequence number for which the changes are still
+     * available.
+     *
+     * @return The oldest available sequence number
+     */
+    long getOldestSequenceNumber();
+
+    /**
+     * Gets whether the changes since the given sequence number are still
+     * available.
+     *
+     * @param since The sequence number
+     * @return True if the changes are available
+     */
+    default boolean isAvailable(long since) {
+        return since >= getOldestSequenceNumber();
+    }
+
+    /**
+     * Gets the chunks in which blocks changed since the given sequence
+     * number, packed with {@link ChunkLayout#packChunkPosition(int, int,
+     * int)}.
+     *
+     * <p>The returned set is a new instance owned by the caller. The journal
+     * of a {@link Chunk} only reports the chunk itself, if it changed.</p>
+     *
+     * @param since The sequence number
+     * @return The packed positions of the changed chunks
+     * @throws IllegalArgumentException If the changes are no longer
+     *     {@link #isAvailable(long) available}
+     */
+    LongSet getDirtyChunks(long since);
+
+    /**
+     * Gets the height of the chunk sections in which changes are tracked.
+     *
+     * @return The section height, in blocks
+     */
+    int getSectionHeight();
+
+    /**
+     * Gets the number of sections of a chunk, which is the height of the
+     * chunks of the server {@link ChunkLayout} divided by the
+     * {@link #getSectionHeight() section height}, rounded up.
+     *
+     * @return The number of sections of a chunk
+     */
+    default int getSectionCount() {
+        final int chunkHeight = Sponge.getServer().getChunkLayout().getChunkSize().getY();
+        final int sectionHeight = getSectionHeight();
+        return (chunkHeight + sectionHeight - 1) / sectionHeight;
+    }
+
+    /**
+     * Gets the bitmap of the sections of the given chunk in which blocks
+     * changed since the given sequence number. Only the first
+     * {@link #getSectionCount()} bits can be set.
+     *
+     * <p>The returned bitmap is a new instance owned by the caller.</p>
+     *
+     * @param chunk The chunk coordinates
+     * @param since The sequence number
+     * @return The bitmap of changed sections, empty if nothing changed or the
+     *     chunk is not part of this journal
+     * @throws IllegalArgumentException If the changes are no longer
+     *     {@link #isAvailable(long) available}
+     */
+    BitSet getDirtySections(Vector3i chunk, long since);
+
+    /**
+     * Gets the positions of the blocks that changed since the given sequence
+     * number, packed with {@link ChunkLayout#packBlockPosition(int, int,
+     * int)}. Each position is reported once, in no particular order.
+     *
+     * @param since The sequence number
+     * @return An iterator over the packed positions of the changed blocks
+     * @throws IllegalArgumentException If the changes are no longer
+     *     {@link #isAvailable(long) available}
+     */
+    PrimitiveIterator.OfLong getChangedPositions(long since);
+
+    /**
+     * Gets the positions of the blocks in the given chunk that changed since
+     * the given sequence number, packed with
+     * {@link ChunkLayout#packBlockPosition(int, int, int)}. Each position is
+     * reported once, in no particular order.
+     *
+     * @param chunk The chunk coordinates
+     * @param since The sequence number
+     * @return An iterator over the packed positions of the changed blocks
+     * @throws IllegalArgumentException If the changes are no longer
+     *     {@link #isAvailable(long) available}
+     */
+    PrimitiveIterator.OfLong getChangedPositions(Vector3i chunk, long since);
+
+}
@@ -0,0 +1,67 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.util.AABB;
+
+/**
+ * Visits collision boxes given as their minimum and maximum coordinates,
+ * without requiring an {@link AABB} to be created for each box.
+ *
+ * @see Extent#visitIntersectingBlockCollisionBoxes(AABB, CollisionBoxVisitor)
+ * @see Extent#visitIntersectingCollisionBoxes(Entity, AABB,
+ *      CollisionBoxVisitor)
+ */
+@FunctionalInterface
+public interface CollisionBoxVisitor {
+
+    /**
+     * Visits a collision box given as its minimum and maximum coordinates.
+     *
+     * @param minX The minimum x coordinate of the box
+     * @param minY The minimum y coordinate of the box
+     * @param minZ The minimum z coordinate of the box
+     * @param maxX The maximum x coordinate of the box
+     * @param maxY The maximum y coordinate of the box
+     * @param maxZ The maximum z coordinate of the box
+     * @return True to continue visiting boxes, false to stop
+     */
+    boolean visit(double minX, double minY, double minZ, double maxX, double maxY, double maxZ);
+
+    /**
+     * Visits the given collision box.
+     *
+     * @param box The collision box
+     * @return True to continue visiting boxes, false to stop
+     */
+    default boolean visit(AABB box) {
+        final Vector3d min = box.getMin();
+        final Vector3d max = box.getMax();
+        return visit(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+}
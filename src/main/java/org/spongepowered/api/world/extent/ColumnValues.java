@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector2i;
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Sponge;
+
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Implements the defaults of the methods of {@link Extent} which get a value
+ * for every column of a rectangle.
+ */
+final class ColumnValues {
+
+    /**
+     * Fills the rectangle of columns starting at the given column.
+     */
+    @FunctionalInterface
+    interface Filler {
+
+        /**
+         * Fills the given array with the values of the columns in the
+         * rectangle of the given size starting at the given column.
+         *
+         * @param xMin The minimum x column value
+         * @param zMin The minimum z column value
+         * @param xSize The number of columns along the x axis
+         * @param zSize The number of columns along the z axis
+         * @param values The array to fill
+         */
+        void fill(int xMin, int zMin, int xSize, int zSize, int[] values);
+
+    }
+
+    /**
+     * Gets the values of every column in the rectangle between the given
+     * columns, inclusive, in row-major order.
+     *
+     * @param min The minimum column
+     * @param max The maximum column
+     * @param filler The filler of the rectangle
+     * @return The values of each column
+     * @throws IllegalArgumentException If the maximum column is smaller than
+     *     the minimum column
+     * @throws ArithmeticException If the rectangle holds more than
+     *     {@link Integer#MAX_VALUE} columns
+     */
+    static int[] get(Vector2i min, Vector2i max, Filler filler) {
+        checkNotNull(min, "min");
+        checkNotNull(max, "max");
+        checkArgument(max.getX() >= min.getX() && max.getY() >= min.getY(), "The maximum column is smaller than the minimum column");
+        final int xSize = Math.addExact(Math.subtractExact(max.getX(), min.getX()), 1);
+        final int zSize = Math.addExact(Math.subtractExact(max.getY(), min.getY()), 1);
+        final int[] values = new int[Math.multiplyExact(xSize, zSize)];
+        filler.fill(min.getX(), min.getY(), xSize, zSize, values);
+        return values;
+    }
+
+    /**
+     * Fills the given array with the value of every column in the rectangle
+     * of the given size starting at the given column, in row-major order,
+     * visiting the rectangle one chunk at a time.
+     *
+     * @param xMin The minimum x column value
+     * @param zMin The minimum z column value
+     * @param xSize The number of columns along the x axis
+     * @param zSize The number of columns along the z axis
+     * @param values The array to fill, at least {@code xSize * zSize} long
+     * @param column The function getting the value of a column from its x
+     *     and z values
+     * @throws IllegalArgumentException If a size is negative or the array is
+     *     too small
+     * @throws ArithmeticException If the rectangle holds more than
+     *     {@link Integer#MAX_VALUE} columns or exceeds the int range
+     */
+    static void fill(int xMin, int zMin, int xSize, int zSize, int[] values, IntBinaryOperator column) {
+        checkNotNull(values, "values");
+        checkArgument(xSize >= 0 && zSize >= 0, "The size cannot be negative");
+        final int count = Math.multiplyExact(xSize, zSize);
+        checkArgument(values.length >= count, "The array is too small to hold %s values", count);
+        final Vector3i chunkSize = Sponge.getServer().getChunkLayout().getChunkSize();
+        final int xMax = Math.addExact(xMin, xSize);
+        final int zMax = Math.addExact(zMin, zSize);
+        for (int cz = Math.floorDiv(zMin, chunkSize.getZ()) * chunkSize.getZ(); cz < zMax; cz += chunkSize.getZ()) {
+            for (int cx = Math.floorDiv(xMin, chunkSize.getX()) * chunkSize.getX(); cx < xMax; cx += chunkSize.getX()) {
+                final int xEnd = Math.min(cx + chunkSize.getX(), xMax);
+                final int zEnd = Math.min(cz + chunkSize.getZ(), zMax);
+                for (int z = Math.max(cz, zMin); z < zEnd; z++) {
+                    for (int x = Math.max(cx, xMin); x < xEnd; x++) {
+                        values[(z - zMin) * xSize + (x - xMin)] = column.applyAsInt(x, z);
+                    }
+                }
+            }
+        }
+    }
+
+    private ColumnValues() {
+    }
+
+}
@@ -96,14 +96,67 @@ public interface EntityUniverse {
      * loaded, so this method will only return entities within those loaded
      * parts.</p>
      *
+     * <p>The search is performed through
+     * {@link #getEntitiesWithin(AABB, Predicate)} with the box enclosing the
+     * search sphere, so only the entities in range are visited rather than
+     * every entity of this universe.</p>
+     *
      * @param location The location at the center of the search radius
      * @param distance The search radius
      * @return A collection of nearby entities
      */
     default Collection<Entity> getNearbyEntities(Vector3d location, double distance) {
+        return getNearbyEntities(location, distance, entity -> true);
+    }
+
+    /**
+     * Return a collection of entities contained within {@code distance} blocks
+     * of the specified location which pass the given filter test. This uses a
+     * sphere to test distances.
+     *
+     * <p>For world implementations, only some parts of the world is usually
+     * loaded, so this method will only return entities within those loaded
+     * parts.</p>
+     *
+     * <p>The search is performed through
+     * {@link #getEntitiesWithin(AABB, Predicate)} with the box enclosing the
+     * search sphere. The distance test is applied before the given
+     * filter.</p>
+     *
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param filter The filter test
+     * @return A collection of nearby entities that pass the filter test
+     */
+    default Collection<Entity> getNearbyEntities(Vector3d location, double distance, Predicate<Entity> filter) {
         checkNotNull(location, "location");
+        checkNotNull(filter, "filter");
         checkArgument(distance > 0, "distance must be > 0");
-        return this.getEntities(e -> e.getLocation().getPosition().distanceSquared(location) <= distance * distance);
+        final double distanceSquared = distance * distance;
+        final AABB box = new AABB(location.sub(distance, distance, distance), location.add(distance, distance, distance));
+        return getEntitiesWithin(box, e -> e.getLocation().getPosition().distanceSquared(location) <= distanceSquared && filter.test(e));
+    }
+
+    /**
+     * Return a collection of entities whose position is contained within the
+     * given box, as long as they pass the given filter test.
+     *
+     * <p>Unlike {@link #getIntersectingEntities(AABB, Predicate)}, entities
+     * are matched by their position and not by their bounding box, so
+     * entities without a bounding box are included as well.</p>
+     *
+     * <p>Implementations are expected to only visit the entities stored in
+     * the chunk sections containing the box, rather than every entity of this
+     * universe.</p>
+     *
+     * @param box The box containing the positions
+     * @param filter The filter test
+     * @return A collection of the contained entities that pass the filter test
+     */
+    default Collection<Entity> getEntitiesWithin(AABB box, Predicate<Entity> filter) {
+        checkNotNull(box, "box");
+        checkNotNull(filter, "filter");
+        return getEntities(e -> box.contains(e.getLocation().getPosition()) && filter.test(e));
     }
 
     /**
@@ -280,6 +333,12 @@ default Set<Entity> getIntersectingEntities(AABB box) {
      * Gets all the entities that intersect the bounding box, in no particular
      * order, as long as the pass the given filter test.
      *
+     * <p>Implementations are expected to only visit the entities stored in the
+     * chunk sections intersecting the box, making the cost of this query
+     * proportional to the number of entities in range rather than the number
+     * of entities in this universe. The filter is only tested against entities
+     * whose bounding box intersects the given box.</p>
+     *
      * @param box The intersection box
      * @param filter The filter test
      * @return All the intersecting entities that pass the filter test
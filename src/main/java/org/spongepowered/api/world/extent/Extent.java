@@ -145,6 +145,55 @@ default Vector3i getHighestPositionAt(Vector3i position) {
         return new Vector3i(position.getX(), getHighestYAt(position.getX(), position.getZ()), position.getZ());
     }
 
+    /**
+     * Gets the y value of the highest block that sunlight can reach for every
+     * column in the rectangle between the given columns, inclusive.
+     *
+     * <p>The values are returned in row-major order, the value for the column
+     * {@code (x, z)} being stored at index {@code (z - zMin) * xSize + (x -
+     * xMin)} where {@code xSize} is the number of columns along the x axis.
+     * </p>
+     *
+     * @param min The minimum column
+     * @param max The maximum column
+     * @return The y values of the highest blocks that sunlight can reach in
+     *     each column
+     * @throws IllegalArgumentException If the maximum column is smaller than
+     *     the minimum column
+     * @throws ArithmeticException If the rectangle holds more than
+     *     {@link Integer#MAX_VALUE} columns
+     * @see #getHighestYsAt(int, int, int, int, int[])
+     */
+    default int[] getHighestYsAt(Vector2i min, Vector2i max) {
+        return ColumnValues.get(min, max, this::getHighestYsAt);
+    }
+
+    /**
+     * Fills the given array with the y value of the highest block that
+     * sunlight can reach for every column in the rectangle of the given size
+     * starting at the given column.
+     *
+     * <p>The values are stored in row-major order, the value for the column
+     * {@code (x, z)} being stored at index
+     * {@code (z - zMin) * xSize + (x - xMin)}. Implementations are expected to
+     * read the values directly from the heightmap of each chunk, visiting the
+     * rectangle one chunk at a time, which avoids the per-call overhead of
+     * {@link #getHighestYAt(int, int)} for large areas.</p>
+     *
+     * @param xMin The minimum x column value
+     * @param zMin The minimum z column value
+     * @param xSize The number of columns along the x axis
+     * @param zSize The number of columns along the z axis
+     * @param values The array to fill, at least {@code xSize * zSize} long
+     * @throws IllegalArgumentException If a size is negative or the array is
+     *     too small
+     * @throws ArithmeticException If the rectangle holds more than
+     *     {@link Integer#MAX_VALUE} columns or exceeds the int range
+     */
+    default void getHighestYsAt(int xMin, int zMin, int xSize, int zSize, int[] values) {
+        ColumnValues.fill(xMin, zMin, xSize, zSize, values, this::getHighestYAt);
+    }
+
     /**
      * Returns the y level that precipitation ends falling in the given column.
      *
@@ -184,6 +233,54 @@ default Vector3i getPrecipitationLevelAt(Vector3i position) {
         return new Vector3i(position.getX(), this.getPrecipitationLevelAt(position.getX(), position.getZ()), position.getZ());
     }
 
+    /**
+     * Gets the y level that precipitation ends falling for every column in
+     * the rectangle between the given columns, inclusive.
+     *
+     * <p>The values are returned in row-major order, the value for the column
+     * {@code (x, z)} being stored at index {@code (z - zMin) * xSize + (x -
+     * xMin)} where {@code xSize} is the number of columns along the x axis.
+     * </p>
+     *
+     * @param min The minimum column
+     * @param max The maximum column
+     * @return The precipitation levels of each column
+     * @throws IllegalArgumentException If the maximum column is smaller than
+     *     the minimum column
+     * @throws ArithmeticException If the rectangle holds more than
+     *     {@link Integer#MAX_VALUE} columns
+     * @see #getPrecipitationLevelsAt(int, int, int, int, int[])
+     */
+    default int[] getPrecipitationLevelsAt(Vector2i min, Vector2i max) {
+        return ColumnValues.get(min, max, this::getPrecipitationLevelsAt);
+    }
+
+    /**
+     * Fills the given array with the y level that precipitation ends falling
+     * for every column in the rectangle of the given size starting at the
+     * given column.
+     *
+     * <p>The values are stored in row-major order, the value for the column
+     * {@code (x, z)} being stored at index
+     * {@code (z - zMin) * xSize + (x - xMin)}. Implementations are expected to
+     * read the values directly from the heightmap of each chunk, visiting the
+     * rectangle one chunk at a time, which avoids the per-call overhead of
+     * {@link #getPrecipitationLevelAt(int, int)} for large areas.</p>
+     *
+     * @param xMin The minimum x column value
+     * @param zMin The minimum z column value
+     * @param xSize The number of columns along the x axis
+     * @param zSize The number of columns along the z axis
+     * @param values The array to fill, at least {@code xSize * zSize} long
+     * @throws IllegalArgumentException If a size is negative or the array is
+     *     too small
+     * @throws ArithmeticException If the rectangle holds more than
+     *     {@link Integer#MAX_VALUE} columns or exceeds the int range
+     */
+    default void getPrecipitationLevelsAt(int xMin, int zMin, int xSize, int zSize, int[] values) {
+        ColumnValues.fill(xMin, zMin, xSize, zSize, values, this::getPrecipitationLevelAt);
+    }
+
     /**
      * Sets the block at the given position in the world.
      *
@@ -503,6 +600,17 @@ default void setNotifier(Vector3i pos, @Nullable UUID uuid) {
      */
     void setNotifier(int x, int y, int z, @Nullable UUID uuid);
 
+    /**
+     * Gets the {@link ChangeJournal} that records the block changes in this
+     * extent, if the implementation supports it. Implementations may only
+     * start recording changes once the journal is first requested.
+     *
+     * @return The change journal, if available
+     */
+    default Optional<ChangeJournal> getChangeJournal() {
+        return Optional.empty();
+    }
+
     /**
      * Gets the bounding box used to select blocks, which appears
      * as a black outline on a vanilla client.
@@ -535,6 +643,55 @@ default Optional<AABB> getBlockSelectionBox(Vector3i pos) {
      */
     Set<AABB> getIntersectingBlockCollisionBoxes(AABB box);
 
+    /**
+     * Adds all the block collision boxes that intersect the bounding box to
+     * the given collection, in no particular order. There may be more than
+     * one box per block. This allows a collection to be reused between
+     * queries instead of creating a new set for every call.
+     *
+     * <p>Implementations are expected to serve the boxes from a per chunk
+     * section cache of block collision shapes which is invalidated when a
+     * block in the section changes.</p>
+     *
+     * @param box The intersection box
+     * @param boxes The collection to add the intersecting boxes to
+     * @return The number of boxes that were added, which excludes the boxes
+     *     rejected by the collection, for instance because a set already
+     *     contained them
+     */
+    default int getIntersectingBlockCollisionBoxes(AABB box, Collection<? super AABB> boxes) {
+        checkNotNull(boxes, "boxes");
+        int added = 0;
+        for (AABB intersecting : getIntersectingBlockCollisionBoxes(box)) {
+            if (boxes.add(intersecting)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Visits all the block collision boxes that intersect the bounding box, in
+     * no particular order, until the visitor returns false. There may be more
+     * than one box per block.
+     *
+     * <p>Implementations are expected to serve the boxes from a per chunk
+     * section cache of block collision shapes which is invalidated when a
+     * block in the section changes, without creating an {@link AABB} per
+     * visited box.</p>
+     *
+     * @param box The intersection box
+     * @param visitor The visitor to pass the intersecting boxes to
+     */
+    default void visitIntersectingBlockCollisionBoxes(AABB box, CollisionBoxVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        for (AABB intersecting : getIntersectingBlockCollisionBoxes(box)) {
+            if (!visitor.visit(intersecting)) {
+                return;
+            }
+        }
+    }
+
     /**
      * Gets all the collision boxes that intersect the bounding box owned by
      * the entity, in no particular order. There may be more than one box per
@@ -562,6 +719,47 @@ default Set<AABB> getIntersectingCollisionBoxes(Entity owner) {
      */
     Set<AABB> getIntersectingCollisionBoxes(Entity owner, AABB box);
 
+    /**
+     * Adds all the collision boxes that intersect the bounding box owned by
+     * the entity to the given collection, in no particular order. There may
+     * be more than one box per block. This also includes entities.
+     *
+     * @param owner The entity that owns the bounding box
+     * @param box The intersection box
+     * @param boxes The collection to add the intersecting boxes to
+     * @return The number of boxes that were added
+     * @see #getIntersectingBlockCollisionBoxes(AABB, Collection)
+     */
+    default int getIntersectingCollisionBoxes(Entity owner, AABB box, Collection<? super AABB> boxes) {
+        checkNotNull(boxes, "boxes");
+        int added = 0;
+        for (AABB intersecting : getIntersectingCollisionBoxes(owner, box)) {
+            if (boxes.add(intersecting)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Visits all the collision boxes that intersect the bounding box owned by
+     * the entity, in no particular order, until the visitor returns false.
+     * There may be more than one box per block. This also includes entities.
+     *
+     * @param owner The entity that owns the bounding box
+     * @param box The intersection box
+     * @param visitor The visitor to pass the intersecting boxes to
+     * @see #visitIntersectingBlockCollisionBoxes(AABB, CollisionBoxVisitor)
+     */
+    default void visitIntersectingCollisionBoxes(Entity owner, AABB box, CollisionBoxVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        for (AABB intersecting : getIntersectingCollisionBoxes(owner, box)) {
+            if (!visitor.visit(intersecting)) {
+                return;
+            }
+        }
+    }
+
     /**
      * Creates a new archetype volume from the specified section of this extent.
      * The archetype's volume will be shifted such that the position given in
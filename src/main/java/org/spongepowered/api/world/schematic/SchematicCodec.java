@@ -0,0 +1,244 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.schematic;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.persistence.DataFormats;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.util.ResettableBuilder;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A streaming codec for {@link Schematic}s which persists the block data of a
+ * schematic as a sequence of independently compressed tiles, each carrying
+ * its own local {@link Palette}.
+ *
+ * <p>Unlike writing a schematic through {@link DataFormats#NBT}, a codec never
+ * materializes the whole schematic as a single {@link DataView}. Blocks are
+ * encoded tile by tile while the volume is traversed, and decoded tile by tile
+ * when read back. Since every tile is self contained, a {@link TileReader}
+ * opened over a {@link SeekableByteChannel} only needs to decode the tiles
+ * intersecting the requested region.</p>
+ */
+public interface SchematicCodec {
+
+    /**
+     * Gets a new builder for schematic codecs.
+     *
+     * @return The new builder
+     */
+    static Builder builder() {
+        return Sponge.getRegistry().createBuilder(Builder.class);
+    }
+
+    /**
+     * Gets the size of the tiles the block data is split into when writing.
+     * Tiles along the maximum edges of a schematic may be smaller.
+     *
+     * @return The tile size
+     */
+    Vector3i getTileSize();
+
+    /**
+     * Gets the compression level applied to each tile, between {@code 0}
+     * (no compression) and {@code 9} (best compression).
+     *
+     * @return The compression level
+     */
+    int getCompressionLevel();
+
+    /**
+     * Writes the given {@link Schematic} to the given {@link OutputStream}.
+     *
+     * <p>The metadata and the tile index are written first, followed by the
+     * block data of each tile in order. The stream is not closed by this
+     * method.</p>
+     *
+     * @param schematic The schematic to write
+     * @param output The output stream to write to
+     * @throws IOException If there was an error writing to the stream
+     */
+    void write(Schematic schematic, OutputStream output) throws IOException;
+
+    /**
+     * Reads a complete {@link Schematic} from the given {@link InputStream}.
+     *
+     * <p>The stream is not closed by this method.</p>
+     *
+     * @param input The input stream to read from
+     * @return The schematic
+     * @throws InvalidDataException If the data in the stream is not a valid
+     *     schematic written by a compatible codec
+     * @throws IOException If there was an error reading from the stream
+     */
+    Schematic read(InputStream input) throws InvalidDataException, IOException;
+
+    /**
+     * Opens a {@link TileReader} over the given channel, allowing random
+     * access to sub-regions of the stored schematic. Only the header and the
+     * tile index are read eagerly.
+     *
+     * <p>Closing the returned reader closes the channel.</p>
+     *
+     * @param channel The channel to read from
+     * @return The tile reader
+     * @throws InvalidDataException If the data in the channel is not a valid
+     *     schematic written by a compatible codec
+     * @throws IOException If there was an error reading from the channel
+     */
+    TileReader open(SeekableByteChannel channel) throws InvalidDataException, IOException;
+
+    /**
+     * Provides random access to the tiles of a stored schematic.
+     */
+    interface TileReader extends Closeable {
+
+        /**
+         * Gets the metadata of the stored schematic.
+         *
+         * @return The metadata
+         */
+        DataView getMetadata();
+
+        /**
+         * Gets the minimum block position of the stored schematic.
+         *
+         * @return The minimum position
+         */
+        Vector3i getBlockMin();
+
+        /**
+         * Gets the size of the stored schematic.
+         *
+         * @return The size
+         */
+        Vector3i getBlockSize();
+
+        /**
+         * Gets the size of the tiles of the stored schematic.
+         *
+         * @return The tile size
+         */
+        Vector3i getTileSize();
+
+        /**
+         * Reads the region between the given positions, inclusive, as a new
+         * {@link Schematic}. Only tiles intersecting the region are decoded,
+         * and only tile entities and entities within the region are included.
+         *
+         * @param min The minimum position of the region
+         * @param max The maximum position of the region
+         * @return The schematic of the region
+         * @throws IllegalArgumentException If the region is not contained
+         *     within the stored schematic
+         * @throws InvalidDataException If a tile could not be decoded
+         * @throws IOException If there was an error reading from the channel
+         */
+        Schematic read(Vector3i min, Vector3i max) throws InvalidDataException, IOException;
+
+        /**
+         * Visits every block between the given positions, inclusive, without
+         * building an intermediate volume. Only tiles intersecting the region
+         * are decoded, and each tile is discarded once visited.
+         *
+         * @param min The minimum position of the region
+         * @param max The maximum position of the region
+         * @param visitor The visitor, receiving the block and its position
+         * @throws IllegalArgumentException If the region is not contained
+         *     within the stored schematic
+         * @throws InvalidDataException If a tile could not be decoded
+         * @throws IOException If there was an error reading from the channel
+         */
+        void visitBlocks(Vector3i min, Vector3i max, BlockVisitor visitor) throws InvalidDataException, IOException;
+
+    }
+
+    /**
+     * Visits a decoded block and its coordinates. Unlike a
+     * {@link BlockVolumeVisitor}, no backing volume exists while the blocks
+     * of a stored schematic are visited.
+     */
+    @FunctionalInterface
+    interface BlockVisitor {
+
+        /**
+         * Visits a decoded block.
+         *
+         * @param block The block
+         * @param x The x coordinate of the block
+         * @param y The y coordinate of the block
+         * @param z The z coordinate of the block
+         */
+        void visit(BlockState block, int x, int y, int z);
+
+    }
+
+    /**
+     * A builder for {@link SchematicCodec}s.
+     */
+    interface Builder extends ResettableBuilder<SchematicCodec, Builder> {
+
+        /**
+         * Sets the size of the tiles the block data is split into. Smaller
+         * tiles make reading small regions cheaper at the cost of a larger
+         * tile index and less effective compression. Defaults to
+         * {@code (16, 16, 16)}.
+         *
+         * @param tileSize The tile size
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If any component is not positive
+         */
+        Builder tileSize(Vector3i tileSize);
+
+        /**
+         * Sets the compression level applied to each tile, between {@code 0}
+         * (no compression) and {@code 9} (best compression). Defaults to
+         * {@code 6}.
+         *
+         * @param level The compression level
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the level is out of range
+         */
+        Builder compressionLevel(int level);
+
+        /**
+         * Builds a new {@link SchematicCodec} from this builder.
+         *
+         * @return The new codec
+         */
+        SchematicCodec build();
+
+    }
+
+}
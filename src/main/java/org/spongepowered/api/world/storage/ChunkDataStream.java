@@ -24,9 +24,22 @@
  */
 package org.spongepowered.api.world.storage;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.util.ResettableBuilder;
 import org.spongepowered.api.world.Chunk;
 
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import javax.annotation.Nullable;
 
 /**
@@ -42,6 +55,9 @@
  * <p>This is a data stream from the chunk storage system and should be used in
  * an asynchronous thread from the main thread.</p>
  *
+ * <p>Large worlds can be read in parallel by splitting the stream, see
+ * {@link #trySplit()} and {@link #stream(boolean)}.</p>
+ *
  */
 public interface ChunkDataStream {
 
@@ -80,4 +96,195 @@ public interface ChunkDataStream {
      */
     void reset();
 
+    /**
+     * Attempts to split off a part of the remaining chunks of this stream into
+     * a new stream, which no longer belongs to this stream. Implementations
+     * typically split along region files, so that every stream reads its own
+     * files. Both streams can then be consumed concurrently from different
+     * threads.
+     *
+     * <p>Resetting a stream only resets the chunks that still belong to
+     * it.</p>
+     *
+     * @return The stream split off, or {@link Optional#empty()} if this
+     *     stream cannot be split
+     */
+    default Optional<ChunkDataStream> trySplit() {
+        return Optional.empty();
+    }
+
+    /**
+     * Gets a token representing the position of this stream, which may be
+     * persisted and later passed to {@link Options.Builder#resumeFrom(String)}
+     * to open a stream reading the chunks of this stream that have not been
+     * read yet. The token only covers the chunks belonging to this stream, if
+     * it was split, a token is needed for each of the parts.
+     *
+     * @return The checkpoint token, or {@link Optional#empty()} if this stream
+     *     cannot be resumed
+     */
+    default Optional<String> getCheckpoint() {
+        return Optional.empty();
+    }
+
+    /**
+     * Gets a {@link Spliterator} over the remaining chunks of this stream,
+     * splitting through {@link #trySplit()}. Reading from the spliterator
+     * consumes this stream.
+     *
+     * @return The spliterator
+     */
+    default Spliterator<DataContainer> spliterator() {
+        return new ChunkDataSpliterator(this);
+    }
+
+    /**
+     * Gets a {@link Stream} over the remaining chunks of this stream. Reading
+     * from the returned stream consumes this stream.
+     *
+     * @param parallel Whether or not the returned stream is parallel
+     * @return The stream
+     */
+    default Stream<DataContainer> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    /**
+     * Options controlling how a {@link ChunkDataStream} is opened with
+     * {@link WorldStorage#getGeneratedChunks(Options)}.
+     */
+    final class Options {
+
+        private static final Options DEFAULT = builder().build();
+
+        /**
+         * Gets the default options, which read every chunk entirely.
+         *
+         * @return The default options
+         */
+        public static Options defaults() {
+            return DEFAULT;
+        }
+
+        /**
+         * Returns a new {@link Builder} for chaining.
+         *
+         * @return Builder for chaining
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        final ImmutableSet<DataQuery> queries;
+        @Nullable final String checkpoint;
+
+        Options(Builder builder) {
+            this.queries = ImmutableSet.copyOf(builder.queries);
+            this.checkpoint = builder.checkpoint;
+        }
+
+        /**
+         * Gets the queries of the data to read from each chunk. If empty, the
+         * chunks are read entirely.
+         *
+         * @return The queries
+         */
+        public ImmutableSet<DataQuery> getQueries() {
+            return this.queries;
+        }
+
+        /**
+         * Gets the checkpoint token to resume reading from, if any.
+         *
+         * @return The checkpoint token
+         */
+        public Optional<String> getCheckpoint() {
+            return Optional.ofNullable(this.checkpoint);
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("queries", this.queries)
+                    .add("checkpoint", this.checkpoint)
+                    .toString();
+        }
+
+        /**
+         * Builder class to assist in creation of new {@link Options}.
+         */
+        public static final class Builder implements ResettableBuilder<Options, Builder> {
+
+            final Set<DataQuery> queries = new LinkedHashSet<>();
+            @Nullable String checkpoint;
+
+            Builder() {
+            }
+
+            /**
+             * Adds a query of data to read from each chunk. When queries are
+             * specified, the returned containers only contain the data at
+             * these paths, which allows implementations to skip decoding the
+             * rest of the chunk.
+             *
+             * @param query The query to add
+             * @return This builder
+             */
+            public Builder query(DataQuery query) {
+                this.queries.add(checkNotNull(query, "query"));
+                return this;
+            }
+
+            /**
+             * Adds queries of data to read from each chunk.
+             *
+             * @param queries The queries to add
+             * @return This builder
+             * @see #query(DataQuery)
+             */
+            public Builder queries(Iterable<DataQuery> queries) {
+                checkNotNull(queries, "queries").forEach(this::query);
+                return this;
+            }
+
+            /**
+             * Sets the checkpoint token, obtained through
+             * {@link ChunkDataStream#getCheckpoint()}, to resume reading from.
+             *
+             * @param checkpoint The checkpoint token
+             * @return This builder
+             */
+            public Builder resumeFrom(String checkpoint) {
+                this.checkpoint = checkNotNull(checkpoint, "checkpoint");
+                return this;
+            }
+
+            @Override
+            public Builder from(Options value) {
+                this.queries.clear();
+                this.queries.addAll(value.queries);
+                this.checkpoint = value.checkpoint;
+                return this;
+            }
+
+            @Override
+            public Builder reset() {
+                this.queries.clear();
+                this.checkpoint = null;
+                return this;
+            }
+
+            /**
+             * Builds new {@link Options} from the values of this builder.
+             *
+             * @return The options
+             */
+            public Options build() {
+                return new Options(this);
+            }
+
+        }
+
+    }
+
 }
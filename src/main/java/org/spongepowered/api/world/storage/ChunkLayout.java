@@ -30,6 +30,8 @@
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.api.util.Direction.Division;
+import org.spongepowered.api.util.LongObjectMap;
+import org.spongepowered.api.util.LongSet;
 
 import java.util.Optional;
 
@@ -41,6 +43,31 @@
  */
 public interface ChunkLayout {
 
+    /**
+     * The number of bits used to store the y coordinate of a packed position.
+     */
+    int PACKED_Y_BITS = 12;
+
+    /**
+     * The shift of the y coordinate of a packed position.
+     */
+    int PACKED_Y_SHIFT = 26;
+
+    /**
+     * The shift of the x coordinate of a packed position.
+     */
+    int PACKED_X_SHIFT = PACKED_Y_SHIFT + PACKED_Y_BITS;
+
+    /**
+     * The mask of the x and z coordinates of a packed position.
+     */
+    long PACKED_XZ_MASK = (1L << PACKED_Y_SHIFT) - 1;
+
+    /**
+     * The mask of the y coordinate of a packed position.
+     */
+    long PACKED_Y_MASK = (1L << PACKED_Y_BITS) - 1;
+
     /**
      * Returns the size of the chunks in blocks. The axes are matched to the
      * corresponding vector components.
@@ -360,4 +387,138 @@ default Optional<Vector3i> moveToChunk(int x, int y, int z, Direction direction,
         return moveToChunk(new Vector3i(x, y, z), direction, steps);
     }
 
+    /**
+     * Packs the given block coordinates into a single {@code long}. The x and
+     * z coordinates are stored on 26 bits each and the y coordinate on 12
+     * bits, which covers the whole block space of a world. Packed positions
+     * can be used as keys of a {@link LongObjectMap} or stored in a
+     * {@link LongSet} instead of boxed {@link Vector3i}s.
+     *
+     * @param x The x block coordinate
+     * @param y The y block coordinate
+     * @param z The z block coordinate
+     * @return The packed block position
+     * @throws IllegalArgumentException If a coordinate does not fit into its
+     *     signed bits, so it would collide with another position
+     */
+    default long packBlockPosition(int x, int y, int z) {
+        // Each coordinate must survive the sign extension of its bits
+        checkArgument(x << Integer.SIZE - PACKED_Y_SHIFT >> Integer.SIZE - PACKED_Y_SHIFT == x
+                && y << Integer.SIZE - PACKED_Y_BITS >> Integer.SIZE - PACKED_Y_BITS == y
+                && z << Integer.SIZE - PACKED_Y_SHIFT >> Integer.SIZE - PACKED_Y_SHIFT == z,
+                "Position out of the packable range: (%s, %s, %s)", x, y, z);
+        return ((long) x & PACKED_XZ_MASK) << PACKED_X_SHIFT | ((long) y & PACKED_Y_MASK) << PACKED_Y_SHIFT | (long) z & PACKED_XZ_MASK;
+    }
+
+    /**
+     * Packs the given block coordinates into a single {@code long}.
+     *
+     * @param position The block coordinates
+     * @return The packed block position
+     * @see #packBlockPosition(int, int, int)
+     */
+    default long packBlockPosition(Vector3i position) {
+        checkNotNull(position, "position");
+        return packBlockPosition(position.getX(), position.getY(), position.getZ());
+    }
+
+    /**
+     * Unpacks block coordinates packed with
+     * {@link #packBlockPosition(int, int, int)}.
+     *
+     * @param packed The packed block position
+     * @return The block coordinates
+     */
+    default Vector3i unpackBlockPosition(long packed) {
+        return new Vector3i(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
+    /**
+     * Packs the given chunk coordinates into a single {@code long}, using the
+     * same layout as {@link #packBlockPosition(int, int, int)}.
+     *
+     * @param x The x chunk coordinate
+     * @param y The y chunk coordinate
+     * @param z The z chunk coordinate
+     * @return The packed chunk position
+     * @throws IllegalArgumentException If the coordinates are not valid chunk
+     *     coordinates
+     */
+    default long packChunkPosition(int x, int y, int z) {
+        checkArgument(isValidChunk(x, y, z), "Invalid chunk coordinates: (%s, %s, %s)", x, y, z);
+        return packBlockPosition(x, y, z);
+    }
+
+    /**
+     * Packs the given chunk coordinates into a single {@code long}.
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The packed chunk position
+     * @throws IllegalArgumentException If the coordinates are not valid chunk
+     *     coordinates
+     * @see #packChunkPosition(int, int, int)
+     */
+    default long packChunkPosition(Vector3i chunkCoords) {
+        checkNotNull(chunkCoords, "chunkCoords");
+        return packChunkPosition(chunkCoords.getX(), chunkCoords.getY(), chunkCoords.getZ());
+    }
+
+    /**
+     * Unpacks chunk coordinates packed with
+     * {@link #packChunkPosition(int, int, int)}.
+     *
+     * @param packed The packed chunk position
+     * @return The chunk coordinates
+     */
+    default Vector3i unpackChunkPosition(long packed) {
+        return unpackBlockPosition(packed);
+    }
+
+    /**
+     * Gets the x coordinate of a packed block or chunk position.
+     *
+     * @param packed The packed position
+     * @return The x coordinate
+     */
+    default int unpackX(long packed) {
+        return (int) (packed >> PACKED_X_SHIFT);
+    }
+
+    /**
+     * Gets the y coordinate of a packed block or chunk position.
+     *
+     * @param packed The packed position
+     * @return The y coordinate
+     */
+    default int unpackY(long packed) {
+        return (int) (packed << Long.SIZE - PACKED_X_SHIFT >> Long.SIZE - PACKED_Y_BITS);
+    }
+
+    /**
+     * Gets the z coordinate of a packed block or chunk position.
+     *
+     * @param packed The packed position
+     * @return The z coordinate
+     */
+    default int unpackZ(long packed) {
+        return (int) (packed << Long.SIZE - PACKED_Y_SHIFT >> Long.SIZE - PACKED_Y_SHIFT);
+    }
+
+    /**
+     * Gets the index of the given block within the chunk containing it. The
+     * index is {@code (y * sizeZ + z) * sizeX + x}, where the coordinates are
+     * relative to the chunk and the sizes are those of
+     * {@link #getChunkSize()}. It is unique within a chunk and lower than the
+     * volume of a chunk.
+     *
+     * @param x The x block coordinate
+     * @param y The y block coordinate
+     * @param z The z block coordinate
+     * @return The chunk local index of the block
+     */
+    default int getChunkLocalIndex(int x, int y, int z) {
+        final Vector3i size = getChunkSize();
+        return (Math.floorMod(y, size.getY()) * size.getZ() + Math.floorMod(z, size.getZ())) * size.getX() + Math.floorMod(x, size.getX());
+    }
+
 }
@@ -0,0 +1,91 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChunkDataStream} which only keeps the data at the given queries
+ * of the chunks read from another stream.
+ */
+final class ProjectedChunkDataStream implements ChunkDataStream {
+
+    private final ChunkDataStream stream;
+    private final ImmutableSet<DataQuery> queries;
+
+    ProjectedChunkDataStream(ChunkDataStream stream, ImmutableSet<DataQuery> queries) {
+        this.stream = stream;
+        this.queries = queries;
+    }
+
+    @Nullable
+    @Override
+    public DataContainer next() {
+        final DataContainer container = this.stream.next();
+        if (container == null) {
+            return null;
+        }
+        final DataContainer projected = DataContainer.createNew();
+        for (DataQuery query : this.queries) {
+            final Optional<Object> value = container.get(query);
+            if (value.isPresent()) {
+                projected.set(query, value.get());
+            }
+        }
+        return projected;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.stream.hasNext();
+    }
+
+    @Override
+    public int available() {
+        return this.stream.available();
+    }
+
+    @Override
+    public void reset() {
+        this.stream.reset();
+    }
+
+    @Override
+    public Optional<ChunkDataStream> trySplit() {
+        return this.stream.trySplit().map(split -> new ProjectedChunkDataStream(split, this.queries));
+    }
+
+    @Override
+    public Optional<String> getCheckpoint() {
+        return this.stream.getCheckpoint();
+    }
+
+}
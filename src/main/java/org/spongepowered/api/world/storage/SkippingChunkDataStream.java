@@ -0,0 +1,133 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.spongepowered.api.data.DataContainer;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link ChunkDataStream} which counts the chunks read from another stream,
+ * so that it can be resumed by skipping as many chunks of a new stream.
+ *
+ * <p>This is the fallback for storages which cannot resume their streams
+ * themselves. It relies on the storage reading the chunks in the same order
+ * every time, chunks which were generated or deleted in the meantime may
+ * therefore be read twice or missed. Once the stream was split, the chunks
+ * no longer form a sequence, and no checkpoint is available.</p>
+ */
+final class SkippingChunkDataStream implements ChunkDataStream {
+
+    private static final String CHECKPOINT_PREFIX = "skip:";
+
+    private final ChunkDataStream stream;
+    private final long skipped;
+    private long position;
+    private boolean split;
+
+    /**
+     * Creates a new stream, skipping the chunks read up to the given
+     * checkpoint if present.
+     *
+     * @param stream The stream to read from
+     * @param checkpoint The checkpoint to resume from
+     * @return The stream
+     * @throws IllegalArgumentException If the checkpoint was not created by
+     *     a stream of this type
+     */
+    static SkippingChunkDataStream open(ChunkDataStream stream, Optional<String> checkpoint) {
+        long skipped = 0;
+        if (checkpoint.isPresent()) {
+            final String token = checkpoint.get();
+            checkArgument(token.startsWith(CHECKPOINT_PREFIX), "Unknown checkpoint: %s", token);
+            try {
+                skipped = Long.parseLong(token.substring(CHECKPOINT_PREFIX.length()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unknown checkpoint: " + token, e);
+            }
+            checkArgument(skipped >= 0, "Unknown checkpoint: %s", token);
+        }
+        return new SkippingChunkDataStream(stream, skipped);
+    }
+
+    private SkippingChunkDataStream(ChunkDataStream stream, long skipped) {
+        this.stream = stream;
+        this.skipped = skipped;
+        skip();
+    }
+
+    private void skip() {
+        this.position = 0;
+        while (this.position < this.skipped && this.stream.hasNext()) {
+            this.stream.next();
+            this.position++;
+        }
+    }
+
+    @Nullable
+    @Override
+    public DataContainer next() {
+        final DataContainer container = this.stream.next();
+        if (container != null) {
+            this.position++;
+        }
+        return container;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.stream.hasNext();
+    }
+
+    @Override
+    public int available() {
+        return this.stream.available();
+    }
+
+    @Override
+    public void reset() {
+        this.stream.reset();
+        skip();
+    }
+
+    @Override
+    public Optional<ChunkDataStream> trySplit() {
+        final Optional<ChunkDataStream> split = this.stream.trySplit();
+        if (split.isPresent()) {
+            this.split = true;
+        }
+        return split;
+    }
+
+    @Override
+    public Optional<String> getCheckpoint() {
+        return this.split ? Optional.empty() : Optional.of(CHECKPOINT_PREFIX + this.position);
+    }
+
+}
@@ -24,11 +24,17 @@
  */
 package org.spongepowered.api.world.storage;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.World;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -51,6 +57,38 @@ public interface WorldStorage {
      */
     ChunkDataStream getGeneratedChunks();
 
+    /**
+     * Gets a {@link ChunkDataStream} configured with the given
+     * {@link ChunkDataStream.Options}.
+     *
+     * <p>When the options specify queries, the returned containers only
+     * contain the data at these paths, and implementations only need to
+     * decode that data. The default implementation reads the chunks entirely
+     * and copies the queried data. When they specify a checkpoint, the
+     * stream resumes reading where the stream that created the checkpoint
+     * stopped.</p>
+     *
+     * <p>The default implementation resumes a stream by reading it again
+     * from the start and skipping as many chunks as were read before. This
+     * assumes that the chunks are read in the same order every time, and
+     * the checkpoints are only available until the stream is split.
+     * Implementations are expected to override this method with a stream
+     * that can seek to its checkpoint.</p>
+     *
+     * @param options The options
+     * @return An iterator of generated chunks
+     * @throws IllegalArgumentException If the checkpoint is not valid for
+     *     this storage
+     */
+    default ChunkDataStream getGeneratedChunks(ChunkDataStream.Options options) {
+        checkNotNull(options, "options");
+        final ChunkDataStream stream = SkippingChunkDataStream.open(getGeneratedChunks(), options.getCheckpoint());
+        if (options.getQueries().isEmpty()) {
+            return stream;
+        }
+        return new ProjectedChunkDataStream(stream, options.getQueries());
+    }
+
     /**
      * Checks if the given chunk coordinates represented by {@link Vector3i}
      * exist in the world.
@@ -68,6 +106,44 @@ public interface WorldStorage {
      */
     CompletableFuture<Boolean> doesChunkExist(Vector3i chunkCoords);
 
+    /**
+     * Checks if the chunk at the given chunk coordinates exists in the world.
+     *
+     * @param x The x chunk coordinate
+     * @param y The y chunk coordinate
+     * @param z The z chunk coordinate
+     * @return Whether the chunk exists or not
+     * @see #doesChunkExist(Vector3i)
+     */
+    default CompletableFuture<Boolean> doesChunkExist(int x, int y, int z) {
+        return doesChunkExist(new Vector3i(x, y, z));
+    }
+
+    /**
+     * Checks if the chunks at the given chunk coordinates exist in the world.
+     *
+     * <p>Implementations are expected to coalesce the checks per region file
+     * and to read the files sequentially, rather than performing a random
+     * read per chunk. The future of each chunk is completed as soon as its
+     * result is known.</p>
+     *
+     * <p>It is imperative to understand that the {@link CompletableFuture}
+     * tasks are blocking, and should avoid using
+     * {@link CompletableFuture#get()} while on the main thread.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The futures of whether each chunk exists or not, keyed by chunk
+     *     coordinates in iteration order of the given coordinates
+     */
+    default Map<Vector3i, CompletableFuture<Boolean>> doesChunksExist(Collection<Vector3i> chunkCoords) {
+        checkNotNull(chunkCoords, "chunkCoords");
+        final Map<Vector3i, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+        for (Vector3i coords : chunkCoords) {
+            results.computeIfAbsent(coords, this::doesChunkExist);
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
     /**
      * Gets a {@link DataContainer} including all data related to a
      * {@link Chunk}.
@@ -88,6 +164,45 @@ public interface WorldStorage {
      */
     CompletableFuture<Optional<DataContainer>> getChunkData(Vector3i chunkCoords);
 
+    /**
+     * Gets a {@link DataContainer} including all data related to the
+     * {@link Chunk} at the given chunk coordinates.
+     *
+     * @param x The x chunk coordinate
+     * @param y The y chunk coordinate
+     * @param z The z chunk coordinate
+     * @return The data container representing the chunk data, if available
+     * @see #getChunkData(Vector3i)
+     */
+    default CompletableFuture<Optional<DataContainer>> getChunkData(int x, int y, int z) {
+        return getChunkData(new Vector3i(x, y, z));
+    }
+
+    /**
+     * Gets the {@link DataContainer}s including all data related to the
+     * {@link Chunk}s at the given chunk coordinates.
+     *
+     * <p>Implementations are expected to coalesce the reads per region file
+     * and to order them by their offset within the file, so the data is read
+     * sequentially rather than with a random read per chunk. The future of
+     * each chunk is completed as soon as its data has been read.</p>
+     *
+     * <p>The containers follow the same rules as the ones returned by
+     * {@link #getChunkData(Vector3i)}.</p>
+     *
+     * @param chunkCoords The chunk coordinates
+     * @return The futures of the data of each chunk, keyed by chunk
+     *     coordinates in iteration order of the given coordinates
+     */
+    default Map<Vector3i, CompletableFuture<Optional<DataContainer>>> getChunkData(Collection<Vector3i> chunkCoords) {
+        checkNotNull(chunkCoords, "chunkCoords");
+        final Map<Vector3i, CompletableFuture<Optional<DataContainer>>> results = new LinkedHashMap<>();
+        for (Vector3i coords : chunkCoords) {
+            results.computeIfAbsent(coords, this::getChunkData);
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
     /**
      * Gets the {@link WorldProperties} of this storage. In the vanilla storage
      * medium this represents the data available in the level.dat file.
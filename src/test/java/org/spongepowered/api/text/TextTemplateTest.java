@@ -0,0 +1,105 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.spongepowered.api.text.TextTemplate.arg;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.text.format.TextColor;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyle;
+import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.util.test.TestHooks;
+
+public class TextTemplateTest {
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+        TestHooks.mockFields(TextColors.class, TextColor.class);
+        TestHooks.mockFields(TextStyles.class, TextStyle.class);
+    }
+
+    @Test
+    public void testArgumentNamesInFirstOccurrenceOrder() {
+        final TextTemplate template = TextTemplate.of(arg("b"), "-", arg("a"), "-", arg("b"));
+        assertThat(template.getArgumentNames(), contains("b", "a"));
+    }
+
+    @Test
+    public void testApplyPositional() {
+        final TextTemplate template = TextTemplate.of("Hello ", arg("name"), ", you have ", arg("count"), " messages");
+        assertThat(template.apply("Steve", 3).build().toPlain(), is("Hello Steve, you have 3 messages"));
+    }
+
+    @Test
+    public void testApplyNamed() {
+        final TextTemplate template = TextTemplate.of("Hello ", arg("name"), ", you have ", arg("count"), " messages");
+        assertThat(template.apply(ImmutableMap.of("count", 3, "name", "Steve")).build().toPlain(),
+                is("Hello Steve, you have 3 messages"));
+    }
+
+    @Test
+    public void testApplyRepeatedArgument() {
+        final TextTemplate template = TextTemplate.of(arg("b"), "-", arg("a"), "-", arg("b"));
+        assertThat(template.apply("x", "y").build().toPlain(), is("x-y-x"));
+        assertThat(template.apply(ImmutableMap.of("a", "y", "b", "x")).build().toPlain(), is("x-y-x"));
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testMissingNamedArgument() {
+        TextTemplate.of("Hello ", arg("name")).apply();
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testMissingTrailingPositionalArgument() {
+        TextTemplate.of(arg("greeting"), " ", arg("name")).apply("Hello");
+    }
+
+    @Test(expected = TextTemplateArgumentException.class)
+    public void testNullPositionalArgument() {
+        TextTemplate.of(arg("greeting"), " ", arg("name")).apply("Hello", null);
+    }
+
+    @Test
+    public void testOptionalArguments() {
+        final TextTemplate template = TextTemplate.of("Hello", arg("name").optional(), arg("suffix").optional().defaultValue(Text.of("!")));
+        assertThat(template.apply().build().toPlain(), is("Hello!"));
+        assertThat(template.apply(" Steve").build().toPlain(), is("Hello Steve!"));
+        assertThat(template.apply(" Steve", "?").build().toPlain(), is("Hello Steve?"));
+        assertThat(template.apply(ImmutableMap.of("suffix", "?")).build().toPlain(), is("Hello?"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooManyPositionalArguments() {
+        TextTemplate.of("Hello ", arg("name")).apply("Steve", "Alex");
+    }
+
+}
@@ -26,10 +26,14 @@
 
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.spongepowered.api.text.action.TextActions.insertText;
+import static org.spongepowered.api.text.action.TextActions.showText;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -37,8 +41,14 @@
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.api.text.format.TextStyle;
 import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.text.serializer.TextSerializer;
+import org.spongepowered.api.text.serializer.TextSerializers;
+import org.spongepowered.api.text.translation.FixedTranslation;
+import org.spongepowered.api.text.translation.TranslationReloads;
 import org.spongepowered.api.util.test.TestHooks;
 
+import java.util.Locale;
+
 public class TextTest {
 
     @Before
@@ -116,6 +126,91 @@ public void testRemoveAtIndex() {
         assertThat(builder.build().toPlain(), is("HelloSponge"));
     }
 
+    @Test
+    public void testWithChildrenOrder() {
+        Text text = Text.builder("a")
+                .append(Text.builder("b").append(Text.of("c"), Text.builder("d").append(Text.of("e")).build()).build())
+                .append(Text.of("f"))
+                .build();
+
+        StringBuilder order = new StringBuilder();
+        for (Text t : text.withChildren()) {
+            order.append(((LiteralText) t).getContent());
+        }
+        assertThat(order.toString(), is("abcdef"));
+        assertThat(text.toPlain(), is("abcdef"));
+    }
+
+    @Test
+    public void testPlainIsCached() {
+        Text text = Text.builder("Hello ").append(Text.of("Sponge")).build();
+
+        assertThat(text.toPlain(), is("Hello Sponge"));
+        assertThat(text.toPlain(), sameInstance(text.toPlain()));
+    }
+
+    @Test
+    public void testContainsTranslations() {
+        assertFalse(Text.builder("Hello ").append(Text.of("Sponge")).build().containsTranslations());
+        assertTrue(Text.of(new FixedTranslation("Hello")).containsTranslations());
+        assertTrue(Text.builder("Hello ").append(Text.of(new FixedTranslation("Sponge"))).build().containsTranslations());
+        assertTrue(Text.builder("Hello").onHover(showText(Text.of(new FixedTranslation("Sponge")))).build().containsTranslations());
+        assertFalse(Text.builder("Hello").onHover(showText(Text.of("Sponge"))).build().containsTranslations());
+    }
+
+    @Test
+    public void testLiteralIsCachedForAllLocales() {
+        final TextSerializer serializer = TextSerializers.PLAIN;
+        final Text text = Text.builder("Hello ").append(Text.of("Sponge")).build();
+
+        assertThat(text.toSerialized(serializer), sameInstance(text.toSerialized(serializer)));
+        assertThat(text.toSerialized(serializer, Locale.ENGLISH), sameInstance(text.toSerialized(serializer, Locale.ENGLISH)));
+    }
+
+    @Test
+    public void testTranslatableIsCachedPerLocale() {
+        final TextSerializer serializer = TextSerializers.PLAIN;
+        final Text text = Text.builder("Hello ").append(Text.of(new FixedTranslation("Sponge"))).build();
+
+        assertThat(text.toSerialized(serializer), not(sameInstance(text.toSerialized(serializer))));
+        final String english = text.toSerialized(serializer, Locale.ENGLISH);
+        assertThat(english, is("Hello Sponge"));
+        assertThat(text.toSerialized(serializer, Locale.ENGLISH), sameInstance(english));
+        assertThat(text.toSerialized(serializer, Locale.FRENCH), not(sameInstance(english)));
+    }
+
+    @Test
+    public void testFormsAreCachedPerSerializerAndLocale() {
+        final TextSerializer serializer = new TestPlainTextSerializer();
+        final Text text = Text.builder("Hello ").append(Text.of(new FixedTranslation("Sponge"))).build();
+
+        final String english = text.toSerialized(serializer, Locale.ENGLISH);
+        final String french = text.toSerialized(serializer, Locale.FRENCH);
+        final String plain = text.toSerialized(TextSerializers.PLAIN, Locale.ENGLISH);
+        assertThat(text.toSerialized(serializer, Locale.ENGLISH), sameInstance(english));
+        assertThat(text.toSerialized(serializer, Locale.FRENCH), sameInstance(french));
+        assertThat(text.toSerialized(TextSerializers.PLAIN, Locale.ENGLISH), sameInstance(plain));
+    }
+
+    @Test
+    public void testTranslationReloadDiscardsCachedForm() {
+        final TextSerializer serializer = TextSerializers.PLAIN;
+        final Text text = Text.of(new FixedTranslation("Sponge"));
+
+        final String english = text.toSerialized(serializer, Locale.ENGLISH);
+        assertThat(text.toSerialized(serializer, Locale.ENGLISH), sameInstance(english));
+        TranslationReloads.notifyReloaded();
+        assertThat(text.toSerialized(serializer, Locale.ENGLISH), not(sameInstance(english)));
+    }
+
+    @Test
+    public void testMutableArgumentIsNotCached() {
+        final TextSerializer serializer = TextSerializers.PLAIN;
+        final Text text = Text.of(new FixedTranslation("Sponge"), new StringBuilder("argument"));
+
+        assertThat(text.toSerialized(serializer, Locale.ENGLISH), not(sameInstance(text.toSerialized(serializer, Locale.ENGLISH))));
+    }
+
     private static Text findText(Text root, String text) {
         for (Text t : root.withChildren()) {
             if (t instanceof LiteralText && ((LiteralText) t).getContent().contains(text)) {
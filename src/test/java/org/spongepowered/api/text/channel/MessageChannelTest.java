@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.channel;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.TestPlainTextSerializer;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.channel.impl.DelegateMessageChannel;
+import org.spongepowered.api.text.channel.type.FixedMessageChannel;
+import org.spongepowered.api.text.chat.ChatType;
+import org.spongepowered.api.text.translation.FixedTranslation;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class MessageChannelTest {
+
+    private final ChatType type = mock(ChatType.class);
+    private final MessageReceiver first = mock(MessageReceiver.class);
+    private final MessageReceiver second = mock(MessageReceiver.class);
+
+    @Before
+    public void initialize() throws Exception {
+        TestPlainTextSerializer.inject();
+    }
+
+    @Test
+    public void testBuiltInChannelsAreRecipientIndependent() {
+        assertTrue(MessageChannel.TO_NONE.isRecipientIndependent());
+        assertTrue(new FixedMessageChannel(this.first).isRecipientIndependent());
+        assertTrue(new DelegateMessageChannel(new FixedMessageChannel(this.first)).isRecipientIndependent());
+        assertTrue(MessageChannel.combined(new FixedMessageChannel(this.first), new FixedMessageChannel(this.second))
+                .isRecipientIndependent());
+    }
+
+    @Test
+    public void testIndependentSendMatchesPerRecipientSend() {
+        final Text message = Text.of("Hello");
+        final MessageChannel independent = new FixedMessageChannel(this.first, this.second);
+        final MessageChannel perRecipient = new FixedMessageChannel(this.first, this.second) {
+
+            @Override
+            public boolean isRecipientIndependent() {
+                return false;
+            }
+
+        };
+        assertTrue(independent.isRecipientIndependent());
+
+        independent.send(null, message, this.type);
+        perRecipient.send(null, message, this.type);
+        verify(this.first, times(2)).sendMessage(message);
+        verify(this.second, times(2)).sendMessage(message);
+    }
+
+    @Test
+    public void testOverriddenTransformIsPerRecipient() {
+        final MessageChannel channel = new FixedMessageChannel(this.first, this.second) {
+
+            @Override
+            public Optional<Text> transformMessage(@Nullable Object sender, MessageReceiver recipient, Text original, ChatType type) {
+                return Optional.of(Text.of(original, recipient == MessageChannelTest.this.first ? " first" : " second"));
+            }
+
+        };
+        assertFalse(channel.isRecipientIndependent());
+        assertFalse(new DelegateMessageChannel(channel).isRecipientIndependent());
+
+        channel.send(null, Text.of("Hello"), this.type);
+        verify(this.first).sendMessage(Text.of(Text.of("Hello"), " first"));
+        verify(this.second).sendMessage(Text.of(Text.of("Hello"), " second"));
+    }
+
+    @Test
+    public void testTranslatableKeepsMemberOrder() {
+        final CommandSource french = source(Locale.FRENCH);
+        final CommandSource english = source(Locale.ENGLISH);
+        final CommandSource otherFrench = source(Locale.FRENCH);
+        final MessageChannel channel = () -> ImmutableList.of(french, english, otherFrench);
+        final Text message = Text.of(new FixedTranslation("Hello"));
+
+        channel.send(null, message, this.type);
+        final InOrder order = inOrder(french, english, otherFrench);
+        order.verify(french).sendMessage(message);
+        order.verify(english).sendMessage(message);
+        order.verify(otherFrench).sendMessage(message);
+    }
+
+    private static CommandSource source(Locale locale) {
+        final CommandSource source = mock(CommandSource.class);
+        when(source.getLocale()).thenReturn(locale);
+        return source;
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+public class ResourceBundleTranslationTest {
+
+    private String greeting = "Hello %s";
+
+    private ResourceBundle getBundle(Locale locale) {
+        final String greeting = this.greeting;
+        return new ListResourceBundle() {
+
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][] {{"greeting", greeting}};
+            }
+
+        };
+    }
+
+    @Test
+    public void testUncachedSeesReloadedBundle() {
+        final ResourceBundleTranslation translation = new ResourceBundleTranslation("greeting", this::getBundle);
+        assertThat(translation.get(Locale.ENGLISH, "Steve"), is("Hello Steve"));
+
+        this.greeting = "Hi %s";
+        assertThat(translation.get(Locale.ENGLISH, "Steve"), is("Hi Steve"));
+        assertThat(translation.get(Locale.ENGLISH), is("Hi %s"));
+    }
+
+    @Test
+    public void testCachedSeesReloadedBundleAfterClear() {
+        final ResourceBundleTranslation translation = new ResourceBundleTranslation("greeting", this::getBundle, true);
+        assertThat(translation.get(Locale.ENGLISH, "Steve"), is("Hello Steve"));
+
+        this.greeting = "Hi %s";
+        assertThat(translation.get(Locale.ENGLISH, "Steve"), is("Hello Steve"));
+        translation.clearCache();
+        assertThat(translation.get(Locale.ENGLISH, "Steve"), is("Hi Steve"));
+    }
+
+    @Test
+    public void testMissingKey() {
+        final ResourceBundleTranslation translation = new ResourceBundleTranslation("missing", this::getBundle);
+        assertThat(translation.get(Locale.ENGLISH), is("missing"));
+    }
+
+}
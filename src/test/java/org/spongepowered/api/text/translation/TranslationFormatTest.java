@@ -0,0 +1,66 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.text.translation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Formattable;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+public class TranslationFormatTest {
+
+    private static final String[] PATTERNS = {
+            "", "Hello", "Hello %s!", "%s and %s", "%2$s before %1$s", "%1$s, %s, %1$s", "100%% %s%n", "%s%s%s",
+            "%d items", "%.2f", "%-10s|", "%S", "%<s", "trailing %", "%0$s", "%3$s"
+    };
+
+    @Test
+    public void testMatchesStringFormat() {
+        final Formattable formattable = (formatter, flags, width, precision) -> formatter.format("formatted");
+        final Object[] args = {"a", null, formattable};
+        for (String pattern : PATTERNS) {
+            for (int count = 0; count <= args.length; count++) {
+                final Object[] slice = new Object[count];
+                System.arraycopy(args, 0, slice, 0, count);
+                String expected;
+                try {
+                    expected = String.format(Locale.ROOT, pattern, slice);
+                } catch (IllegalFormatException e) {
+                    expected = e.getClass().getName();
+                }
+                String actual;
+                try {
+                    actual = TranslationFormat.compile(pattern).format(Locale.ROOT, slice);
+                } catch (IllegalFormatException e) {
+                    actual = e.getClass().getName();
+                }
+                Assert.assertEquals(pattern + " with " + count + " arguments", expected, actual);
+            }
+        }
+    }
+
+}
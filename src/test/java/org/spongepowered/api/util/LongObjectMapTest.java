@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LongObjectMapTest {
+
+    // A fixed seed, so failures can be reproduced
+    private final Random random = new Random(0x5eed);
+
+    @Test
+    public void testPutGetRemove() {
+        final LongObjectMap<String> map = new LongObjectMap<>();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.put(0, "zero"));
+        Assert.assertNull(map.put(-1, "minus one"));
+        Assert.assertNull(map.put(Long.MAX_VALUE, "max"));
+        Assert.assertEquals("zero", map.put(0, "nought"));
+        Assert.assertEquals(3, map.size());
+        Assert.assertEquals("nought", map.get(0));
+        Assert.assertEquals("minus one", map.get(-1));
+        Assert.assertEquals("max", map.get(Long.MAX_VALUE));
+        Assert.assertNull(map.get(1));
+        Assert.assertEquals("default", map.getOrDefault(1, "default"));
+        Assert.assertEquals("minus one", map.remove(-1));
+        Assert.assertNull(map.remove(-1));
+        Assert.assertFalse(map.containsKey(-1));
+        Assert.assertEquals(2, map.size());
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.get(0));
+    }
+
+    @Test
+    public void testAgainstHashMap() {
+        final LongObjectMap<Long> map = new LongObjectMap<>();
+        final Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            // Use a small key range to exercise collisions and removals
+            final long key = this.random.nextInt(512) * (this.random.nextBoolean() ? 1L : 1L << 38);
+            if (this.random.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                final long value = this.random.nextLong();
+                Assert.assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            Assert.assertEquals(expected.size(), map.size());
+        }
+        expected.forEach((key, value) -> Assert.assertEquals(value, map.get(key)));
+        map.forEach((key, value) -> Assert.assertEquals(expected.get(key), value));
+        Assert.assertEquals(expected.size(), map.keys().length);
+    }
+
+    @Test
+    public void testLongSet() {
+        final LongSet set = new LongSet();
+        Assert.assertTrue(set.add(5));
+        Assert.assertTrue(set.add(-3));
+        Assert.assertFalse(set.add(5));
+        Assert.assertEquals(2, set.size());
+        Assert.assertTrue(set.contains(-3));
+        Assert.assertTrue(set.remove(5));
+        Assert.assertFalse(set.contains(5));
+        Assert.assertArrayEquals(new long[] {-3}, set.toArray());
+    }
+
+}
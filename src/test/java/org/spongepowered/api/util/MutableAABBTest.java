@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+public class MutableAABBTest {
+
+    // A fixed seed, so failures can be reproduced
+    private final Random random = new Random(0x5eed);
+
+    @Test
+    public void testSet() {
+        final MutableAABB aabb = new MutableAABB(11, 2, 3, 7, -10, 13);
+        Assert.assertEquals(new MutableAABB(7, -10, 3, 11, 2, 13), aabb);
+        Assert.assertEquals(new AABB(7, -10, 3, 11, 2, 13), aabb.toAABB());
+        Assert.assertEquals(aabb, new MutableAABB(aabb.toAABB()));
+    }
+
+    @Test
+    public void testOffset() {
+        final MutableAABB aabb = new MutableAABB(1, 2, 3, 7, 10, 13);
+        final MutableAABB destination = new MutableAABB();
+        Assert.assertSame(destination, aabb.offset(10, -10, 5, destination));
+        Assert.assertEquals(new MutableAABB(11, -8, 8, 17, 0, 18), destination);
+        Assert.assertEquals(new MutableAABB(1, 2, 3, 7, 10, 13), aabb);
+        Assert.assertSame(aabb, aabb.offset(10, -10, 5));
+        Assert.assertEquals(destination, aabb);
+    }
+
+    @Test
+    public void testExpand() {
+        final MutableAABB aabb = new MutableAABB(1, 2, 3, 7, 10, 13);
+        final MutableAABB destination = new MutableAABB();
+        Assert.assertSame(destination, aabb.expand(10, -4, 5, destination));
+        Assert.assertEquals(new MutableAABB(-4, 4, 0.5, 12, 8, 15.5), destination);
+        Assert.assertEquals(new MutableAABB(1, 2, 3, 7, 10, 13), aabb);
+    }
+
+    @Test
+    public void testIntersectsRay() {
+        for (int i = 0; i < 1000; i++) {
+            final AABB aabb = new AABB(randomVector(), randomVector());
+            final MutableAABB mutable = new MutableAABB(aabb);
+            final Vector3d start = randomVector();
+            final Vector3d direction = randomVector();
+            final Optional<Tuple<Vector3d, Vector3d>> expected = aabb.intersects(start, direction);
+            final double t = mutable.intersects(start.getX(), start.getY(), start.getZ(), direction.getX(), direction.getY(), direction.getZ());
+            Assert.assertEquals(expected.isPresent(), t >= 0);
+            if (t >= 0) {
+                final Vector3d point = start.add(direction.mul(t));
+                Assert.assertEquals(0, point.distance(expected.get().getFirst()), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    public void testArrayIntersectsBox() {
+        final AABBArray array = new AABBArray(1);
+        array.add(0, 0, 0, 1, 1, 1);
+        array.add(5, 5, 5, 6, 6, 6);
+        array.add(new AABB(0.5, 0.5, 0.5, 2, 2, 2));
+        Assert.assertEquals(3, array.size());
+        final int[] indices = new int[3];
+        Assert.assertEquals(2, array.intersects(new MutableAABB(0.75, 0.75, 0.75, 1.5, 1.5, 1.5), indices));
+        Assert.assertArrayEquals(new int[] {0, 2, 0}, indices);
+        Assert.assertEquals(new MutableAABB(5, 5, 5, 6, 6, 6), array.get(1, new MutableAABB()));
+        array.clear();
+        Assert.assertEquals(0, array.intersects(new MutableAABB(0, 0, 0, 10, 10, 10), indices));
+    }
+
+    @Test
+    public void testArrayIntersectsRay() {
+        final AABBArray array = new AABBArray();
+        array.add(4, -1, -1, 5, 1, 1);
+        array.add(2, -1, -1, 3, 1, 1);
+        array.add(2, 5, 5, 3, 6, 6);
+        final double[] distances = new double[3];
+        Assert.assertEquals(1, array.intersects(0, 0, 0, 1, 0, 0, distances));
+        Assert.assertEquals(4, distances[0], 0);
+        Assert.assertEquals(2, distances[1], 0);
+        Assert.assertTrue(distances[2] < 0);
+        Assert.assertEquals(-1, array.intersects(0, 0, 0, -1, 0, 0, null));
+    }
+
+    private Vector3d randomVector() {
+        return new Vector3d(this.random.nextDouble() * 20 - 10, this.random.nextDouble() * 20 - 10, this.random.nextDouble() * 20 - 10);
+    }
+
+}
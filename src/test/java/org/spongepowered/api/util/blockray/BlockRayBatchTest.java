@@ -0,0 +1,210 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.util.test.TestHooks;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.storage.ChunkLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class BlockRayBatchTest {
+
+    // The origins avoid block boundaries and the directions avoid passing
+    // exactly through block edges, where BlockRay moves diagonally
+    private static final Vector3d[][] RAYS = {
+            {new Vector3d(0.3, 64.7, 0.2), new Vector3d(1, 0.37, 0.61)},
+            {new Vector3d(-0.3, 64.2, -5.6), new Vector3d(-0.8, -0.27, -0.45)},
+            {new Vector3d(-7.9, 60.1, 3.4), new Vector3d(0.53, 0.12, -0.91)},
+            {new Vector3d(-0.5, 64.5, -0.5), new Vector3d(-1, 0, 0)},
+            {new Vector3d(3.5, 64.5, -2.5), new Vector3d(0, 0, 1)},
+            {new Vector3d(0.5, 64.5, 0.5), new Vector3d(0, -1, 0)},
+            {new Vector3d(0.5, 64.3, -0.5), new Vector3d(0, 0.42, -1)},
+    };
+    private static final double DISTANCE_LIMIT = 12.3;
+
+    private final Extent extent = mock(Extent.class);
+    private final BlockState block = mock(BlockState.class);
+
+    @Before
+    public void initialize() {
+        when(this.extent.containsBlock(anyInt(), anyInt(), anyInt())).thenReturn(true);
+        when(this.extent.getBlock(anyInt(), anyInt(), anyInt())).thenReturn(this.block);
+    }
+
+    private static List<Step> blockRay(Extent extent, Vector3d origin, Vector3d direction, double distanceLimit) {
+        final BlockRay<Extent> ray = BlockRay.from(extent, origin).direction(direction).distanceLimit(distanceLimit).narrowPhase(false).build();
+        final List<Step> steps = new ArrayList<>();
+        while (ray.advanceCursor()) {
+            final BlockRayCursor<Extent> cursor = ray.getCursor();
+            steps.add(new Step(new Vector3i(cursor.getBlockX(), cursor.getBlockY(), cursor.getBlockZ()),
+                    new Vector3d(cursor.getNormalX(), cursor.getNormalY(), cursor.getNormalZ()), cursor.getDistance()));
+        }
+        return steps;
+    }
+
+    private static List<List<Step>> trace(BlockRayBatch<?> batch) {
+        final List<List<Step>> steps = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            steps.add(new ArrayList<>());
+        }
+        batch.trace((ray, x, y, z, face, block, distance) -> {
+            steps.get(ray).add(new Step(new Vector3i(x, y, z), face.asOffset(), distance));
+            return true;
+        });
+        return steps;
+    }
+
+    private static void assertSameSteps(List<Step> actual, List<Step> expected) {
+        assertThat(actual.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).block, is(expected.get(i).block));
+            assertThat(actual.get(i).normal, is(expected.get(i).normal));
+            assertThat(actual.get(i).distance, closeTo(expected.get(i).distance, 1e-9));
+        }
+    }
+
+    @Test
+    public void testMatchesBlockRay() {
+        final BlockRayBatch<Extent> batch = BlockRayBatch.in(this.extent);
+        for (Vector3d[] ray : RAYS) {
+            batch.add(ray[0], ray[1], DISTANCE_LIMIT);
+        }
+        final List<List<Step>> steps = trace(batch);
+        for (int i = 0; i < RAYS.length; i++) {
+            assertSameSteps(steps.get(i), blockRay(this.extent, RAYS[i][0], RAYS[i][1], DISTANCE_LIMIT));
+        }
+    }
+
+    @Test
+    public void testMatchesBlockRayAtExtentBounds() {
+        when(this.extent.containsBlock(anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> Math.abs(invocation.<Integer>getArgument(0)) <= 4);
+        final BlockRayBatch<Extent> batch = BlockRayBatch.in(this.extent);
+        for (Vector3d[] ray : RAYS) {
+            batch.add(ray[0], ray[1], DISTANCE_LIMIT);
+        }
+        final List<List<Step>> steps = trace(batch);
+        for (int i = 0; i < RAYS.length; i++) {
+            assertSameSteps(steps.get(i), blockRay(this.extent, RAYS[i][0], RAYS[i][1], DISTANCE_LIMIT));
+        }
+    }
+
+    @Test
+    public void testResults() {
+        final BlockRayBatch<Extent> batch = BlockRayBatch.in(this.extent)
+                .hitFilter(block -> false);
+        batch.add(RAYS[0][0], RAYS[0][1], DISTANCE_LIMIT);
+        batch.addSegment(new Vector3d(0.5, 64.5, 0.5), new Vector3d(-3.5, 64.5, 0.5));
+        BlockRayBatch.Results results = batch.trace(new BlockRayBatch.Results());
+        assertThat(results.size(), is(2));
+        assertThat(results.isHit(0), is(false));
+        assertThat(results.isHit(1), is(false));
+
+        results = batch.hitFilter(block -> true).trace(results);
+        assertThat(results.isHit(0), is(true));
+        assertThat(results.isHit(1), is(true));
+        assertThat(results.getBlockX(1), is(-1));
+        assertThat(results.getFace(1), is(Direction.EAST));
+        assertThat(results.getDistance(1), closeTo(0.5, 1e-9));
+    }
+
+    @Test
+    public void testWorldChunkCache() throws Exception {
+        final ChunkLayout layout = mock(ChunkLayout.class);
+        when(layout.getChunkSize()).thenReturn(new Vector3i(16, 256, 16));
+        final Server server = mock(Server.class);
+        when(server.getChunkLayout()).thenReturn(layout);
+        final Game game = mock(Game.class);
+        when(game.getServer()).thenReturn(server);
+        TestHooks.setGame(game);
+
+        final Chunk chunk = mock(Chunk.class);
+        when(chunk.containsBlock(anyInt(), anyInt(), anyInt())).thenReturn(true);
+        when(chunk.getBlock(anyInt(), anyInt(), anyInt())).thenReturn(this.block);
+        final World world = mock(World.class);
+        // Only the chunks with non-negative x coordinates are loaded
+        when(world.getChunk(anyInt(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> invocation.<Integer>getArgument(0) >= 0 ? Optional.of(chunk) : Optional.empty());
+
+        final BlockRayBatch<World> batch = BlockRayBatch.in(world);
+        batch.add(0.5, 64.5, 0.5, 1, 0, 0, 40);
+        batch.add(0.5, 65.5, 0.5, 1, 0, 0, 40);
+        batch.add(0.5, 64.5, 0.5, -1, 0, 0, 40);
+        batch.add(0.5, 65.5, 0.5, -1, 0, 0, 40);
+        final List<List<Step>> steps = trace(batch);
+        assertThat(steps.get(0).size(), is(40));
+        assertThat(steps.get(1).size(), is(40));
+        // The unloaded chunk ends the rays
+        assertThat(steps.get(2), is(empty()));
+        assertThat(steps.get(3), is(empty()));
+
+        // Every chunk is resolved once per trace, including unloaded ones
+        verify(world, times(1)).getChunk(0, 0, 0);
+        verify(world, times(1)).getChunk(1, 0, 0);
+        verify(world, times(1)).getChunk(2, 0, 0);
+        verify(world, times(1)).getChunk(-1, 0, 0);
+        trace(batch);
+        verify(world, times(2)).getChunk(0, 0, 0);
+        verify(world, times(2)).getChunk(-1, 0, 0);
+    }
+
+    private static final class Step {
+
+        final Vector3i block;
+        final Vector3d normal;
+        final double distance;
+
+        Step(Vector3i block, Vector3d normal, double distance) {
+            this.block = block;
+            this.normal = normal;
+            this.distance = distance;
+        }
+
+    }
+
+}
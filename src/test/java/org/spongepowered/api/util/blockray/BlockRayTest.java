@@ -0,0 +1,132 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.blockray;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class BlockRayTest {
+
+    // Block n along the x axis is entered at a distance of n - 0.5
+    private static final Vector3d START = new Vector3d(0.5, 0.5, 0.5);
+
+    private final Extent extent = mock(Extent.class);
+
+    @Before
+    public void initialize() {
+        when(this.extent.containsBlock(anyInt(), anyInt(), anyInt())).thenReturn(true);
+    }
+
+    private BlockRay.BlockRayBuilder<Extent> ray() {
+        return BlockRay.from(this.extent, START).direction(Vector3d.UNIT_X).narrowPhase(false);
+    }
+
+    private static List<Integer> traverse(BlockRay<Extent> ray) {
+        final List<Integer> blocks = new ArrayList<>();
+        while (ray.advanceCursor()) {
+            blocks.add(ray.getCursor().getBlockX());
+        }
+        return blocks;
+    }
+
+    @Test
+    public void testDistanceLimit() {
+        final BlockRay<Extent> ray = ray().distanceLimit(3).build();
+        assertThat(traverse(ray), contains(1, 2, 3));
+        // The ray stays ended until it is reset
+        assertFalse(ray.advanceCursor());
+        assertFalse(ray.hasNext());
+        ray.reset();
+        assertThat(traverse(ray), contains(1, 2, 3));
+    }
+
+    @Test
+    public void testStopFilter() {
+        assertThat(traverse(ray().stopFilter(hit -> hit.getBlockX() < 3).build()), contains(1, 2));
+        assertThat(traverse(ray().cursorStopFilter(cursor -> cursor.getBlockX() < 3).build()), contains(1, 2));
+        assertThat(traverse(ray().stopFilter(hit -> false).build()), is(empty()));
+    }
+
+    @Test
+    public void testSkipFilter() {
+        assertThat(traverse(ray().distanceLimit(5).skipFilter(hit -> hit.getBlockX() % 2 == 0).build()), contains(2, 4));
+        assertThat(traverse(ray().distanceLimit(5).cursorSkipFilter(cursor -> cursor.getBlockX() % 2 != 0).build()), contains(1, 3, 5));
+    }
+
+    @Test
+    public void testStopFilterBeforeSkipFilter() {
+        final BlockRay<Extent> ray = ray()
+                .skipFilter(hit -> hit.getBlockX() != 2)
+                .stopFilter(hit -> hit.getBlockX() < 4)
+                .build();
+        assertThat(traverse(ray), contains(1, 3));
+    }
+
+    @Test
+    public void testRepeatedHasNext() {
+        final BlockRay<Extent> ray = ray().distanceLimit(3).build();
+        assertTrue(ray.hasNext());
+        assertTrue(ray.hasNext());
+        // hasNext() already moved the cursor to the next block
+        assertThat(ray.getCursor().getBlockX(), is(1));
+        assertThat(ray.next().getBlockX(), is(1));
+        assertTrue(ray.hasNext());
+        assertThat(ray.getCursor().getBlockX(), is(2));
+        assertThat(ray.next().getBlockX(), is(2));
+        assertThat(ray.next().getBlockX(), is(3));
+        assertFalse(ray.hasNext());
+        assertFalse(ray.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testNextAfterEnd() {
+        final BlockRay<Extent> ray = ray().distanceLimit(1).build();
+        assertThat(ray.next().getBlockX(), is(1));
+        ray.next();
+    }
+
+    @Test
+    public void testEnd() {
+        assertThat(ray().distanceLimit(3).build().end().get().getBlockX(), is(3));
+        assertFalse(ray().stopFilter(hit -> false).build().end().isPresent());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.storage;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+public class SkippingChunkDataStreamTest {
+
+    private final List<DataContainer> chunks = ImmutableList.of(
+            mock(DataContainer.class), mock(DataContainer.class), mock(DataContainer.class), mock(DataContainer.class));
+
+    private static List<DataContainer> readAll(ChunkDataStream stream) {
+        final List<DataContainer> read = new ArrayList<>();
+        while (stream.hasNext()) {
+            read.add(stream.next());
+        }
+        return read;
+    }
+
+    @Test
+    public void testResumeFromCheckpoint() {
+        final ChunkDataStream first = SkippingChunkDataStream.open(new ListStream(), Optional.empty());
+        assertThat(first.next(), sameInstance(this.chunks.get(0)));
+        assertThat(first.next(), sameInstance(this.chunks.get(1)));
+        final Optional<String> checkpoint = first.getCheckpoint();
+
+        final ChunkDataStream resumed = SkippingChunkDataStream.open(new ListStream(), checkpoint);
+        assertThat(readAll(resumed), contains(this.chunks.get(2), this.chunks.get(3)));
+        // Resetting goes back to the checkpoint
+        resumed.reset();
+        assertThat(readAll(resumed), contains(this.chunks.get(2), this.chunks.get(3)));
+    }
+
+    @Test
+    public void testResumeFromCompletedStream() {
+        final ChunkDataStream first = SkippingChunkDataStream.open(new ListStream(), Optional.empty());
+        readAll(first);
+        final ChunkDataStream resumed = SkippingChunkDataStream.open(new ListStream(), first.getCheckpoint());
+        assertFalse(resumed.hasNext());
+        assertThat(resumed.getCheckpoint(), is(first.getCheckpoint()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownCheckpoint() {
+        SkippingChunkDataStream.open(new ListStream(), Optional.of("region:3"));
+    }
+
+    private final class ListStream implements ChunkDataStream {
+
+        private int index;
+
+        @Nullable
+        @Override
+        public DataContainer next() {
+            return hasNext() ? SkippingChunkDataStreamTest.this.chunks.get(this.index++) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < SkippingChunkDataStreamTest.this.chunks.size();
+        }
+
+        @Override
+        public int available() {
+            return SkippingChunkDataStreamTest.this.chunks.size() - this.index;
+        }
+
+        @Override
+        public void reset() {
+            this.index = 0;
+        }
+
+    }
+
+}